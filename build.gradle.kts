@@ -15,6 +15,7 @@ plugins {
     id("ru.vyarus.pom") version "3.0.0"
     id("org.jreleaser") version "1.25.0"
     id("org.sonarqube") version "7.3.1.8318"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 repositories {
@@ -48,9 +49,6 @@ gitVersioning.apply {
 
 dependencies {
 
-    implementation("org.apache.commons:commons-collections4:4.5.0")
-    implementation("io.github.1c-syntax:utils:0.10.1")
-
     // логирование
     implementation("org.slf4j:slf4j-api:2.0.18")
 
@@ -88,6 +86,19 @@ tasks.test {
     }
 }
 
+jmh {
+    jmhVersion = "1.37"
+    // распределение памяти на вызов (gc.alloc.rate.norm)
+    profilers = listOf("gc")
+    // результаты для сравнения между версиями: build/results/jmh/results-<версия>.json
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results-${project.version}.json")
+    // выгрузка полных имен реальной конфигурации: ./gradlew jmh -PjmhCorpus=/path/to/names.txt
+    providers.gradleProperty("jmhCorpus").orNull?.let {
+        jvmArgsAppend.add("-Dbsl.benchmark.corpus=$it")
+    }
+}
+
 tasks.check {
     dependsOn(tasks.jacocoTestReport)
 }
@@ -0,0 +1,78 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Разбор и сравнение режимов совместимости {@link CompatibilityMode}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompatibilityModeBenchmark {
+
+  private static final String[] VERSIONS = {
+    "Version8_1", "Version8_2_13", "Version8_2_16", "Version8_3_1", "Version8_3_6", "Version8_3_10",
+    "Version8_3_12", "Version8_3_14", "Version8_3_18", "Version8_3_20", "Version8_3_22", "Version8_3_24",
+    "Version8_5_1", "DontUse"
+  };
+
+  private CompatibilityMode mode;
+  private int index;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    mode = new CompatibilityMode("Version8_3_14");
+  }
+
+  @Benchmark
+  public CompatibilityMode parse() {
+    return new CompatibilityMode(VERSIONS[next()]);
+  }
+
+  @Benchmark
+  public int compareToString() {
+    return CompatibilityMode.compareTo(mode, VERSIONS[next()]);
+  }
+
+  private int next() {
+    var result = index;
+    index = (index + 1) % VERSIONS.length;
+    return result;
+  }
+}
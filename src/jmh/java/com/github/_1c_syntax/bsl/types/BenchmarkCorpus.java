@@ -0,0 +1,217 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Корпус имен для бенчмарков.
+ * <p>
+ * По умолчанию строится из списков объектов, табличных частей и реквизитов типовой конфигурации уровня ERP
+ * (каталог ресурсов {@code corpus}). Вместо него можно передать выгрузку полных имен реальной конфигурации
+ * (по одному на строку) через системное свойство {@value #CORPUS_PROPERTY}.
+ */
+@UtilityClass
+public class BenchmarkCorpus {
+  /**
+   * Системное свойство с путем к внешнему корпусу полных имен
+   */
+  public static final String CORPUS_PROPERTY = "bsl.benchmark.corpus";
+
+  private static final long SEED = 42L;
+  private static final int MAX_TABULAR_SECTIONS = 3;
+  private static final int MAX_ATTRIBUTES = 12;
+
+  private static final Set<MDOType> TYPES_WITH_ATTRIBUTES = EnumSet.of(
+    MDOType.CATALOG, MDOType.DOCUMENT, MDOType.ACCUMULATION_REGISTER, MDOType.INFORMATION_REGISTER,
+    MDOType.ACCOUNTING_REGISTER, MDOType.CALCULATION_REGISTER, MDOType.CHART_OF_ACCOUNTS,
+    MDOType.CHART_OF_CHARACTERISTIC_TYPES, MDOType.CHART_OF_CALCULATION_TYPES, MDOType.BUSINESS_PROCESS,
+    MDOType.TASK, MDOType.EXCHANGE_PLAN, MDOType.REPORT, MDOType.DATA_PROCESSOR);
+
+  private static final List<String> FULL_NAMES = computeFullNames();
+
+  /**
+   * Полные имена объектов и их подчиненных элементов, например
+   * {@code Document.ЗаказКлиента.TabularSection.Товары.Attribute.Количество}
+   *
+   * @return Неизменяемый список имен в детерминированном порядке
+   */
+  public static List<String> fullNames() {
+    return FULL_NAMES;
+  }
+
+  /**
+   * Полные имена объектов верхнего уровня, например {@code Catalog.Номенклатура}
+   *
+   * @return Неизменяемый список имен
+   */
+  public static List<String> objectNames() {
+    return FULL_NAMES.stream()
+      .filter(name -> name.indexOf('.') == name.lastIndexOf('.'))
+      .toList();
+  }
+
+  /**
+   * Имена элементов (последние части полных имен) без повторов
+   *
+   * @return Неизменяемый список имен
+   */
+  public static List<String> leafNames() {
+    var result = new LinkedHashSet<String>();
+    FULL_NAMES.forEach(name -> result.add(name.substring(name.lastIndexOf('.') + 1)));
+    return List.copyOf(result);
+  }
+
+  /**
+   * Имена видов метаданных из корпуса во всех вариантах написания:
+   * английском и русском, единственном и множественном числе
+   *
+   * @return Неизменяемый список имен
+   */
+  public static List<String> mdoTypeNames() {
+    var result = new ArrayList<String>();
+    FULL_NAMES.forEach(name -> {
+      var type = MDOType.valueByName(name.substring(0, name.indexOf('.')));
+      if (type == MDOType.UNKNOWN) {
+        return;
+      }
+      result.add(type.nameEn());
+      result.add(type.groupName());
+      result.add(type.nameRu());
+      result.add(type.groupNameRu());
+    });
+    return List.copyOf(result);
+  }
+
+  /**
+   * Имена типов значений: ссылочные типы объектов корпуса на обоих языках и примитивные типы
+   *
+   * @return Неизменяемый список имен
+   */
+  public static List<String> valueTypeNames() {
+    var result = new ArrayList<String>();
+    var primitives = List.of("String", "Строка", "Number", "Число", "Date", "Дата", "Boolean", "Булево");
+    var index = 0;
+    for (var name : objectNames()) {
+      var dot = name.indexOf('.');
+      var type = MDOType.valueByName(name.substring(0, dot));
+      if (type == MDOType.UNKNOWN) {
+        continue;
+      }
+      var objectName = name.substring(dot);
+      result.add(type.nameEn() + "Ref" + objectName);
+      result.add(type.nameRu() + "Ссылка" + objectName);
+      result.add(primitives.get(index++ % primitives.size()));
+    }
+    return List.copyOf(result);
+  }
+
+  /**
+   * Перемешивает список детерминированным образом
+   *
+   * @param values Исходный список
+   * @param <T>    Тип элементов
+   * @return Новый перемешанный список
+   */
+  public static <T> List<T> shuffled(List<T> values) {
+    var result = new ArrayList<>(values);
+    Collections.shuffle(result, new Random(SEED));
+    return result;
+  }
+
+  private static List<String> computeFullNames() {
+    var external = System.getProperty(CORPUS_PROPERTY);
+    if (external != null && !external.isBlank()) {
+      try {
+        return readLines(Files.newBufferedReader(Path.of(external), StandardCharsets.UTF_8));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    var objects = readResource("objects.txt");
+    var tabularSections = readResource("tabular-sections.txt");
+    var attributes = readResource("attributes.txt");
+    var random = new Random(SEED);
+
+    var result = new ArrayList<String>();
+    for (var object : objects) {
+      result.add(object);
+      var mdoType = MDOType.valueByName(object.substring(0, object.indexOf('.')));
+      if (TYPES_WITH_ATTRIBUTES.contains(mdoType)) {
+        addAttributes(result, object, attributes, random);
+        var sectionCount = random.nextInt(MAX_TABULAR_SECTIONS + 1);
+        for (var i = 0; i < sectionCount; i++) {
+          var section = object + ".TabularSection." + pick(tabularSections, random);
+          result.add(section);
+          addAttributes(result, section, attributes, random);
+        }
+      }
+    }
+    return List.copyOf(new LinkedHashSet<>(result));
+  }
+
+  private static void addAttributes(List<String> result, String owner, List<String> attributes, Random random) {
+    var count = 1 + random.nextInt(MAX_ATTRIBUTES);
+    for (var i = 0; i < count; i++) {
+      result.add(owner + ".Attribute." + pick(attributes, random));
+    }
+  }
+
+  private static String pick(List<String> values, Random random) {
+    return values.get(random.nextInt(values.size()));
+  }
+
+  private static List<String> readResource(String name) {
+    var stream = Objects.requireNonNull(BenchmarkCorpus.class.getResourceAsStream("/corpus/" + name), name);
+    try {
+      return readLines(new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8)));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static List<String> readLines(BufferedReader reader) throws IOException {
+    try (reader) {
+      return reader.lines()
+        .map(String::strip)
+        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+        .toList();
+    }
+  }
+}
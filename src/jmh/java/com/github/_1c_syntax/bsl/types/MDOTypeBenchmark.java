@@ -0,0 +1,73 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Определение вида метаданных по имени {@link MDOType#fromValue(String)} во всех вариантах написания
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MDOTypeBenchmark {
+
+  private String[] names;
+  private int index;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    names = BenchmarkCorpus.shuffled(BenchmarkCorpus.mdoTypeNames()).toArray(new String[0]);
+  }
+
+  @Benchmark
+  public Optional<MDOType> fromValue() {
+    return MDOType.fromValue(names[next()]);
+  }
+
+  @Benchmark
+  public MDOType valueByName() {
+    return MDOType.valueByName(names[next()]);
+  }
+
+  private int next() {
+    var result = index;
+    index = (index + 1) % names.length;
+    return result;
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Создание ссылок {@link MdoReference} всеми вариантами метода {@code create} на корпусе имен.
+ * Для закэшированных ссылок распределение памяти на вызов (gc.alloc.rate.norm) должно быть близко к нулю
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MdoReferenceBenchmark {
+
+  private List<String> fullNames;
+  private String[] names;
+  private MdoReference[] references;
+  private MdoReference[] owners;
+  private MdoReference[] sorted;
+  private MdoReferenceRegistry registry;
+  private MdoReferenceRegistry previous;
+  private List<ChildGroup> childGroups;
+  private int index;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    registry = MdoReferenceRegistry.create();
+    previous = MdoReferenceRegistry.install(registry);
+
+    fullNames = BenchmarkCorpus.shuffled(BenchmarkCorpus.fullNames());
+    var referenceList = new ArrayList<MdoReference>();
+    fullNames.forEach(name -> referenceList.add(MdoReference.create(name)));
+    references = referenceList.toArray(new MdoReference[0]);
+
+    names = new String[references.length];
+    owners = new MdoReference[references.length];
+    for (var i = 0; i < references.length; i++) {
+      var mdoRef = references[i].getMdoRef();
+      var lastDot = mdoRef.lastIndexOf('.');
+      names[i] = mdoRef.substring(lastDot + 1);
+      var typeDot = mdoRef.lastIndexOf('.', lastDot - 1);
+      owners[i] = typeDot < 0 ? MdoReference.EMPTY : MdoReference.get(mdoRef.substring(0, typeDot));
+    }
+    childGroups = groupChildren(BenchmarkCorpus.fullNames());
+    sorted = new MdoReference[references.length];
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    MdoReferenceRegistry.install(previous);
+    registry.close();
+  }
+
+  @Benchmark
+  public MdoReference createFullName() {
+    return MdoReference.create(fullNames.get(next()));
+  }
+
+  @Benchmark
+  public MdoReference createTypeAndName() {
+    var i = next();
+    return MdoReference.create(references[i].getType(), names[i]);
+  }
+
+  @Benchmark
+  public MdoReference createChild() {
+    var i = next();
+    return MdoReference.create(owners[i], references[i].getType(), names[i]);
+  }
+
+  @Benchmark
+  public MdoReference createExplicit() {
+    var reference = references[next()];
+    return MdoReference.create(reference.getType(), reference.getMdoRef(), reference.getMdoRefRu());
+  }
+
+  @Benchmark
+  public MdoReference find() {
+    return MdoReference.get(fullNames.get(next()));
+  }
+
+  @Benchmark
+  public int compareTo() {
+    var i = next();
+    return references[i].compareTo(references[(i + 1) % references.length]);
+  }
+
+  /**
+   * Сортировка всех ссылок корпуса. Распределение памяти - только буфер слияния сортировки
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public MdoReference[] sort() {
+    System.arraycopy(references, 0, sorted, 0, references.length);
+    Arrays.sort(sorted);
+    return sorted;
+  }
+
+  /**
+   * Загрузка всего корпуса в пустой реестр, как при открытии конфигурации
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void loadConfiguration(Blackhole blackhole) {
+    try (var loading = MdoReferenceRegistry.create()) {
+      for (var name : fullNames) {
+        blackhole.consume(loading.create(name));
+      }
+    }
+  }
+
+  /**
+   * Загрузка всего корпуса в пустой реестр пакетами дочерних элементов одного владельца и типа
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void loadConfigurationBulk(Blackhole blackhole) {
+    try (var loading = MdoReferenceRegistry.create(MdoReferenceRegistry.Retention.STRONG, fullNames.size())) {
+      for (var group : childGroups) {
+        var owner = group.owner == null ? null : loading.get(group.owner);
+        blackhole.consume(loading.createChildren(owner, group.type, group.names));
+      }
+    }
+  }
+
+  /**
+   * Группирует полные имена по владельцу и типу. Владелец всегда предшествует своим дочерним элементам
+   */
+  private static List<ChildGroup> groupChildren(List<String> fullNames) {
+    var groups = new LinkedHashMap<String, ChildGroup>();
+    for (var fullName : fullNames) {
+      var nameDot = fullName.lastIndexOf('.');
+      var typeDot = fullName.lastIndexOf('.', nameDot - 1);
+      var owner = typeDot < 0 ? null : fullName.substring(0, typeDot);
+      var type = MDOType.valueByName(fullName.substring(typeDot + 1, nameDot));
+      groups.computeIfAbsent(owner + "|" + type, key -> new ChildGroup(owner, type, new ArrayList<>()))
+        .names.add(fullName.substring(nameDot + 1));
+    }
+    return List.copyOf(groups.values());
+  }
+
+  private record ChildGroup(@Nullable String owner, MDOType type, List<String> names) {
+  }
+
+  private int next() {
+    var result = index;
+    index = (index + 1) % references.length;
+    return result;
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Нагрузочный тест реестра ссылок при параллельном разборе: 1, 4, 16 и 64 потока.
+ * <p>
+ * {@code hits*} - поиск ранее созданных ссылок по полным именам на обоих языках, без блокировок.
+ * {@code race*} - все потоки одновременно создают одни и те же новые ссылки, в том числе стандартные
+ * реквизиты по русскому и английскому имени, так что вставки конкурируют за одни ключи.
+ * Реестр для {@code race*} очищается перед каждой итерацией.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MdoReferenceConcurrencyBenchmark {
+
+  private static final int RACE_NAMES = 1 << 16;
+
+  private MdoReferenceRegistry registry;
+  private MdoReferenceRegistry raceRegistry;
+  private String[] fullNames;
+  private String[] raceNames;
+  private MdoReference raceOwner;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    registry = MdoReferenceRegistry.create();
+    List<String> names = BenchmarkCorpus.shuffled(BenchmarkCorpus.fullNames());
+    fullNames = new String[names.size() * 2];
+    for (var i = 0; i < names.size(); i++) {
+      var reference = registry.create(names.get(i));
+      fullNames[2 * i] = reference.getMdoRef();
+      fullNames[2 * i + 1] = reference.getMdoRefRu();
+    }
+
+    var standardNames = List.of("Code", "Код", "Description", "Наименование", "Ref", "Ссылка");
+    raceNames = new String[RACE_NAMES];
+    for (var i = 0; i < RACE_NAMES; i++) {
+      raceNames[i] = i % 8 == 0 ? standardNames.get((i / 8) % standardNames.size()) : "Поле" + i;
+    }
+    raceRegistry = MdoReferenceRegistry.create();
+  }
+
+  @Setup(Level.Iteration)
+  public void resetRace() {
+    raceRegistry.clear();
+    raceOwner = raceRegistry.create(MDOType.CATALOG, "Гонка");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    registry.close();
+    raceRegistry.close();
+  }
+
+  /**
+   * Позиция потока в наборе имен
+   */
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int index;
+
+    int next(int length) {
+      var result = index;
+      index = (index + 1) % length;
+      return result;
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public MdoReference hits01(Cursor cursor) {
+    return hit(cursor);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public MdoReference hits04(Cursor cursor) {
+    return hit(cursor);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public MdoReference hits16(Cursor cursor) {
+    return hit(cursor);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public MdoReference hits64(Cursor cursor) {
+    return hit(cursor);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public MdoReference race01(Cursor cursor) {
+    return race(cursor);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public MdoReference race04(Cursor cursor) {
+    return race(cursor);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public MdoReference race16(Cursor cursor) {
+    return race(cursor);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public MdoReference race64(Cursor cursor) {
+    return race(cursor);
+  }
+
+  private MdoReference hit(Cursor cursor) {
+    return registry.get(fullNames[cursor.next(fullNames.length)]);
+  }
+
+  private MdoReference race(Cursor cursor) {
+    var name = raceNames[cursor.next(RACE_NAMES)];
+    var type = name.startsWith("Поле") ? MDOType.ATTRIBUTE : MDOType.STANDARD_ATTRIBUTE;
+    return raceRegistry.create(raceOwner, type, name);
+  }
+}
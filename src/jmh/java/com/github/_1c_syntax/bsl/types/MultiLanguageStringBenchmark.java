@@ -0,0 +1,104 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Чтение, сравнение и сортировка мультиязычных строк {@link MultiLanguageString} с синонимами на 2-5 языках
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiLanguageStringBenchmark {
+
+  private static final List<String> LANGUAGES = List.of("ru", "en", "uk", "kk", "de");
+
+  private MultiLanguageString[] strings;
+  private MultiLanguageString[] sorted;
+  private String[] keys;
+  private int index;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    var names = BenchmarkCorpus.shuffled(BenchmarkCorpus.leafNames());
+    strings = new MultiLanguageString[names.size()];
+    sorted = new MultiLanguageString[names.size()];
+    keys = new String[names.size()];
+    for (var i = 0; i < strings.length; i++) {
+      var languageCount = 2 + i % (LANGUAGES.size() - 1);
+      var parts = new ArrayList<MultiLanguageString>();
+      for (var lang = 0; lang < languageCount; lang++) {
+        parts.add(MultiLanguageString.create(LANGUAGES.get(lang), names.get(i) + " " + LANGUAGES.get(lang)));
+      }
+      strings[i] = MultiLanguageString.create(parts);
+      keys[i] = i % 2 == 0 ? "ru" : "EN";
+    }
+  }
+
+  @Benchmark
+  public String get() {
+    var i = next();
+    return strings[i].get(keys[i]);
+  }
+
+  @Benchmark
+  public int compareTo() {
+    var i = next();
+    return strings[i].compareTo(strings[(i + 1) % strings.length]);
+  }
+
+  /**
+   * Сортировка всех строк корпуса. Распределение памяти - только буфер слияния сортировки
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public MultiLanguageString[] sort() {
+    System.arraycopy(strings, 0, sorted, 0, strings.length);
+    Arrays.sort(sorted);
+    return sorted;
+  }
+
+  private int next() {
+    var result = index;
+    index = (index + 1) % strings.length;
+    return result;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Создание мультиязычных имен {@link MultiName#create} по именам элементов корпуса.
+ * Для уже известных имен распределение памяти на вызов (gc.alloc.rate.norm) должно быть близко к нулю
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiNameBenchmark {
+
+  /**
+   * Количество имен при загрузке, сопоставимое с выгрузкой крупной конфигурации
+   */
+  private static final int IMPORT_SIZE = 2_000_000;
+
+  private String[] names;
+  private String[] importNames;
+  private String[] namesEn;
+  private int index;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    names = BenchmarkCorpus.shuffled(BenchmarkCorpus.leafNames()).toArray(new String[0]);
+    namesEn = new String[names.length];
+    var types = MDOType.values();
+    for (var i = 0; i < names.length; i++) {
+      namesEn[i] = types[i % types.length].nameEn() + i;
+    }
+
+    // имена элементов повторяются, как в реальной выгрузке; каждое восьмое уникально
+    importNames = new String[IMPORT_SIZE];
+    for (var i = 0; i < IMPORT_SIZE; i++) {
+      var name = names[i % names.length];
+      importNames[i] = i % 8 == 0 ? name + i : name;
+    }
+  }
+
+  @Benchmark
+  public MultiName createSingle() {
+    return MultiName.create(names[next()]);
+  }
+
+  @Benchmark
+  public MultiName createPair() {
+    var i = next();
+    return MultiName.create(namesEn[i], names[i]);
+  }
+
+  /**
+   * Создание имен для всего корпуса загрузки, как при чтении конфигурации
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void importCorpus(Blackhole blackhole) {
+    for (var name : importNames) {
+      blackhole.consume(MultiName.create(name));
+    }
+  }
+
+  private int next() {
+    var result = index;
+    index = (index + 1) % names.length;
+    return result;
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение способов поиска вида метаданных по имени: карта с ключами в нижнем регистре
+ * (прежняя реализация), {@link CaseInsensitiveIndex} и {@link PerfectHashIndex}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameLookupBenchmark {
+
+  private String[] names;
+  private Map<String, MDOType> lowerCaseMap;
+  private CaseInsensitiveIndex<MDOType> index;
+  private PerfectHashIndex<MDOType> perfectHashIndex;
+  private int position;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    names = BenchmarkCorpus.shuffled(BenchmarkCorpus.mdoTypeNames()).toArray(new String[0]);
+    lowerCaseMap = new HashMap<>();
+    index = CaseInsensitiveIndex.create();
+    for (var type : MDOType.values()) {
+      if (type == MDOType.UNKNOWN) {
+        continue;
+      }
+      for (var name : new String[]{type.nameEn(), type.groupName(), type.nameRu(), type.groupNameRu()}) {
+        lowerCaseMap.put(name.toLowerCase(Locale.ROOT), type);
+        index.put(name, type);
+      }
+    }
+    perfectHashIndex = PerfectHashIndex.copyOf(index);
+  }
+
+  @Benchmark
+  public MDOType lowerCaseHashMap() {
+    return lowerCaseMap.get(names[next()].toLowerCase(Locale.ROOT));
+  }
+
+  @Benchmark
+  public MDOType caseInsensitiveIndex() {
+    return index.get(names[next()]);
+  }
+
+  @Benchmark
+  public MDOType perfectHashIndex() {
+    return perfectHashIndex.get(names[next()]);
+  }
+
+  private int next() {
+    var result = position;
+    position = (position + 1) % names.length;
+    return result;
+  }
+}
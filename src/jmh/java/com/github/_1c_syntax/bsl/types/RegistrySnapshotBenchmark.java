@@ -0,0 +1,93 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Восстановление реестра ссылок из снимка {@link RegistrySnapshot} в сравнении с построением по полным именам
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistrySnapshotBenchmark {
+
+  private static final long SOURCE_HASH = 42L;
+
+  private List<String> fullNames;
+  private Path snapshot;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    fullNames = BenchmarkCorpus.fullNames();
+    snapshot = Files.createTempFile("registry", ".bin");
+    try (var registry = rebuild()) {
+      RegistrySnapshot.write(snapshot, registry, SOURCE_HASH);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(snapshot);
+  }
+
+  @Benchmark
+  public int rebuildFromNames() {
+    try (var registry = rebuild()) {
+      return registry.size();
+    }
+  }
+
+  @Benchmark
+  public int restoreFromSnapshot() throws IOException {
+    try (var registry = MdoReferenceRegistry.create(MdoReferenceRegistry.Retention.STRONG, fullNames.size())) {
+      RegistrySnapshot.read(snapshot, registry, SOURCE_HASH);
+      return registry.size();
+    }
+  }
+
+  private MdoReferenceRegistry rebuild() {
+    var registry = MdoReferenceRegistry.create(MdoReferenceRegistry.Retention.STRONG, fullNames.size());
+    fullNames.forEach(registry::create);
+    return registry;
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import com.github._1c_syntax.bsl.types.qualifiers.DateQualifiers;
+import com.github._1c_syntax.bsl.types.qualifiers.NumberQualifiers;
+import com.github._1c_syntax.bsl.types.qualifiers.StringQualifiers;
+import com.github._1c_syntax.bsl.types.value.PrimitiveValueType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Создание описаний типов {@link ValueTypeDescription#create} для реквизитов: примитивные типы
+ * с квалификаторами и составные ссылочные типы
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueTypeDescriptionBenchmark {
+
+  private static final int COMPOSITE_STRING_LENGTH = 150;
+
+  /**
+   * Типичные длины строковых реквизитов
+   */
+  private static final int[] STRING_LENGTHS = {10, 25, 50, 100, 150, 200, 256, 500, 1024};
+
+  private ValueType[] refTypes;
+  private ValueTypeDescription[] descriptions;
+  private int attributeCount;
+  private int index;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    refTypes = BenchmarkCorpus.shuffled(BenchmarkCorpus.objectNames()).stream()
+      .map(name -> {
+        var dot = name.indexOf('.');
+        return ValueTypes.getOrCompute(name.substring(0, dot) + "Ref" + name.substring(dot));
+      })
+      .toArray(ValueType[]::new);
+
+    attributeCount = (int) BenchmarkCorpus.fullNames().stream()
+      .filter(name -> name.contains(".Attribute."))
+      .count();
+
+    // описания реквизитов: ссылка с примитивным типом, как в составных типах конфигурации
+    descriptions = new ValueTypeDescription[refTypes.length];
+    for (var i = 0; i < refTypes.length; i++) {
+      descriptions[i] = ValueTypeDescription.create(
+        List.of(refTypes[i], i % 2 == 0 ? PrimitiveValueType.STRING : PrimitiveValueType.NUMBER),
+        List.of(StringQualifiers.create(COMPOSITE_STRING_LENGTH)));
+    }
+  }
+
+  @Benchmark
+  public ValueTypeDescription createString() {
+    return ValueTypeDescription.create(PrimitiveValueType.STRING, StringQualifiers.create(25 * (1 + next() % 10)));
+  }
+
+  @Benchmark
+  public ValueTypeDescription createNumber() {
+    var i = next();
+    return ValueTypeDescription.create(PrimitiveValueType.NUMBER, NumberQualifiers.create(15, i % 4));
+  }
+
+  @Benchmark
+  public ValueTypeDescription createRef() {
+    return ValueTypeDescription.create(refTypes[next()]);
+  }
+
+  @Benchmark
+  public ValueTypeDescription createComposite() {
+    var i = next();
+    return ValueTypeDescription.create(
+      List.of(refTypes[i], refTypes[(i + 1) % refTypes.length], PrimitiveValueType.STRING, PrimitiveValueType.DATE),
+      List.of(StringQualifiers.create(COMPOSITE_STRING_LENGTH), DateQualifiers.create()));
+  }
+
+  /**
+   * Описания типов всех реквизитов корпуса, как при загрузке конфигурации: строки, числа, даты и ссылки
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void loadAttributes(Blackhole blackhole) {
+    for (var i = 0; i < attributeCount; i++) {
+      blackhole.consume(switch (i % 5) {
+        case 0 -> ValueTypeDescription.createString(STRING_LENGTHS[i % STRING_LENGTHS.length]);
+        case 1 -> ValueTypeDescription.create(PrimitiveValueType.NUMBER, NumberQualifiers.create(15, i % 4, i % 3 == 0));
+        case 2 -> ValueTypeDescription.create(PrimitiveValueType.DATE, DateQualifiers.create(DateFractions.DATE));
+        default -> ValueTypeDescription.create(refTypes[i % refTypes.length]);
+      });
+    }
+  }
+
+  /**
+   * Объединение через пересоздание описания по спискам типов и квалификаторов
+   */
+  @Benchmark
+  public ValueTypeDescription unionByCreate() {
+    var i = next();
+    var left = descriptions[i];
+    var right = descriptions[(i + 1) % descriptions.length];
+    return ValueTypeDescription.create(
+      Stream.concat(left.getTypes().stream(), right.getTypes().stream()).toList(),
+      Stream.concat(left.getQualifiers().stream(), right.getQualifiers().stream()).toList());
+  }
+
+  @Benchmark
+  public ValueTypeDescription union() {
+    var i = next();
+    return descriptions[i].union(descriptions[(i + 1) % descriptions.length]);
+  }
+
+  @Benchmark
+  public ValueTypeDescription intersect() {
+    var i = next();
+    return descriptions[i].intersect(descriptions[(i + 2) % descriptions.length]);
+  }
+
+  @Benchmark
+  public boolean isSubsetOf() {
+    var i = next();
+    return descriptions[i].isSubsetOf(descriptions[i].union(descriptions[(i + 1) % descriptions.length]));
+  }
+
+  private int next() {
+    var result = index;
+    index = (index + 1) % refTypes.length;
+    return result;
+  }
+}
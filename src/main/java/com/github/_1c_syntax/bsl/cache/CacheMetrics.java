@@ -0,0 +1,119 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Показатели одного кэша.
+ * <p>
+ * Количество элементов и объем памяти вычисляются при запросе снимка. Счетчики обращений увеличиваются
+ * только при включенной статистике ({@link CacheStatistics#setEnabled(boolean)}), в выключенном состоянии
+ * регистрация события сводится к чтению одного флага
+ */
+public final class CacheMetrics implements CacheMetricsMXBean {
+  private final String name;
+  private final LongSupplier size;
+  private final LongSupplier approximateBytes;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder contention = new LongAdder();
+
+  CacheMetrics(String name, LongSupplier size, LongSupplier approximateBytes) {
+    this.name = name;
+    this.size = size;
+    this.approximateBytes = approximateBytes;
+  }
+
+  /**
+   * Регистрирует попадание в кэш
+   */
+  public void recordHit() {
+    if (CacheStatistics.enabled) {
+      hits.increment();
+    }
+  }
+
+  /**
+   * Регистрирует промах кэша
+   */
+  public void recordMiss() {
+    if (CacheStatistics.enabled) {
+      misses.increment();
+    }
+  }
+
+  /**
+   * Регистрирует конфликт вставки
+   */
+  public void recordContention() {
+    if (CacheStatistics.enabled) {
+      contention.increment();
+    }
+  }
+
+  /**
+   * Формирует снимок показателей
+   *
+   * @return Снимок
+   */
+  public CacheSnapshot snapshot() {
+    return new CacheSnapshot(name, getSize(), getApproximateBytes(), getHits(), getMisses(), getContention());
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public long getSize() {
+    return size.getAsLong();
+  }
+
+  @Override
+  public long getApproximateBytes() {
+    return approximateBytes.getAsLong();
+  }
+
+  @Override
+  public long getHits() {
+    return hits.sum();
+  }
+
+  @Override
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  @Override
+  public long getContention() {
+    return contention.sum();
+  }
+
+  void reset() {
+    hits.reset();
+    misses.reset();
+    contention.reset();
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.cache;
+
+import lombok.Value;
+
+/**
+ * Снимок показателей кэша на момент запроса
+ */
+@Value
+public class CacheSnapshot {
+  /**
+   * Имя кэша
+   */
+  String name;
+
+  /**
+   * Количество элементов
+   */
+  long size;
+
+  /**
+   * Приблизительный объем удерживаемой памяти в байтах
+   */
+  long approximateBytes;
+
+  /**
+   * Количество обращений, нашедших значение в кэше
+   */
+  long hits;
+
+  /**
+   * Количество обращений, не нашедших значение в кэше
+   */
+  long misses;
+
+  /**
+   * Количество конфликтов вставки: значение было создано, но другой поток успел поместить его раньше
+   */
+  long contention;
+}
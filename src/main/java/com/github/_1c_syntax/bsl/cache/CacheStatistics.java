@@ -0,0 +1,225 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.cache;
+
+import lombok.experimental.UtilityClass;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Статистика внутренних кэшей и интернеров библиотеки.
+ * <p>
+ * Каждый кэш регистрируется под своим именем при инициализации класса-владельца. Количество элементов и
+ * приблизительный объем памяти доступны всегда, счетчики попаданий, промахов и конфликтов ведутся только
+ * при включенной статистике: системным свойством {@value #ENABLED_PROPERTY} или методом
+ * {@link #setEnabled(boolean)}. Показатели можно опубликовать в JMX методом {@link #registerMBeans()}.
+ */
+@UtilityClass
+public class CacheStatistics {
+  /**
+   * Системное свойство, включающее подсчет обращений при запуске
+   */
+  public static final String ENABLED_PROPERTY = "bsl.cache.statistics";
+
+  /**
+   * Домен JMX-объектов статистики
+   */
+  public static final String JMX_DOMAIN = "com.github._1c_syntax.bsl";
+
+  private static final int STRING_SHALLOW_BYTES = 24;
+  private static final int ARRAY_HEADER_BYTES = 16;
+  private static final int POOLED_STRING_BYTES = 32;
+  private static final int ALIGNMENT = 8;
+
+  static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+  private static final Map<String, CacheMetrics> CACHES = new ConcurrentSkipListMap<>();
+  private static boolean mbeansRegistered;
+
+  /**
+   * Регистрирует кэш
+   *
+   * @param name             Уникальное имя кэша
+   * @param size             Источник количества элементов
+   * @param approximateBytes Источник оценки удерживаемой памяти
+   * @return Показатели кэша, через которые регистрируются обращения
+   */
+  public static synchronized CacheMetrics register(String name, LongSupplier size, LongSupplier approximateBytes) {
+    var metrics = new CacheMetrics(name, size, approximateBytes);
+    if (CACHES.putIfAbsent(name, metrics) != null) {
+      throw new IllegalArgumentException("Cache is already registered: " + name);
+    }
+    if (mbeansRegistered) {
+      registerMBean(objectName(name), metrics);
+    }
+    return metrics;
+  }
+
+  /**
+   * @return Признак включенного подсчета обращений
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Включает или выключает подсчет попаданий, промахов и конфликтов
+   *
+   * @param value Признак включения
+   */
+  public static void setEnabled(boolean value) {
+    enabled = value;
+  }
+
+  /**
+   * Формирует снимки показателей всех зарегистрированных кэшей, упорядоченные по имени
+   *
+   * @return Список снимков
+   */
+  public static List<CacheSnapshot> snapshot() {
+    return CACHES.values().stream()
+      .map(CacheMetrics::snapshot)
+      .toList();
+  }
+
+  /**
+   * Формирует снимок показателей кэша по имени
+   *
+   * @param name Имя кэша
+   * @return Снимок, если кэш зарегистрирован
+   */
+  public static Optional<CacheSnapshot> snapshot(String name) {
+    return Optional.ofNullable(CACHES.get(name)).map(CacheMetrics::snapshot);
+  }
+
+  /**
+   * Сбрасывает счетчики обращений всех кэшей
+   */
+  public static void reset() {
+    CACHES.values().forEach(CacheMetrics::reset);
+  }
+
+  /**
+   * Публикует показатели в платформенном MBean-сервере: общий объект {@code type=CacheStatistics}
+   * и по объекту {@code type=Cache,name=<имя>} на каждый кэш, включая зарегистрированные позже
+   */
+  public static synchronized void registerMBeans() {
+    if (mbeansRegistered) {
+      return;
+    }
+    registerMBean(controlName(), new Control());
+    CACHES.forEach((name, metrics) -> registerMBean(objectName(name), metrics));
+    mbeansRegistered = true;
+  }
+
+  /**
+   * Снимает с публикации объекты, зарегистрированные {@link #registerMBeans()}
+   */
+  public static synchronized void unregisterMBeans() {
+    if (!mbeansRegistered) {
+      return;
+    }
+    var server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      server.unregisterMBean(controlName());
+      for (var name : CACHES.keySet()) {
+        server.unregisterMBean(objectName(name));
+      }
+    } catch (JMException e) {
+      throw new IllegalStateException(e);
+    }
+    mbeansRegistered = false;
+  }
+
+  /**
+   * Оценивает объем памяти строки в куче с учетом компактного хранения латиницы.
+   * Для строк из {@link OffHeapStringPool} учитывается только дескриптор
+   *
+   * @param value Строка
+   * @return Приблизительный размер в байтах
+   */
+  public static long approximateBytes(CharSequence value) {
+    if (value instanceof PooledString) {
+      return POOLED_STRING_BYTES;
+    }
+    var bytesPerChar = 1;
+    for (var i = 0; i < value.length(); i++) {
+      if (value.charAt(i) > 0xFF) {
+        bytesPerChar = 2;
+        break;
+      }
+    }
+    return STRING_SHALLOW_BYTES + align(ARRAY_HEADER_BYTES + (long) bytesPerChar * value.length());
+  }
+
+  private static long align(long bytes) {
+    return (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+  }
+
+  private static void registerMBean(ObjectName name, Object mbean) {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, name);
+    } catch (JMException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static ObjectName controlName() {
+    try {
+      return new ObjectName(JMX_DOMAIN + ":type=CacheStatistics");
+    } catch (JMException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static ObjectName objectName(String cacheName) {
+    try {
+      return new ObjectName(JMX_DOMAIN + ":type=Cache,name=" + ObjectName.quote(cacheName));
+    } catch (JMException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class Control implements CacheStatisticsMXBean {
+    @Override
+    public boolean isEnabled() {
+      return CacheStatistics.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+      CacheStatistics.setEnabled(enabled);
+    }
+
+    @Override
+    public void reset() {
+      CacheStatistics.reset();
+    }
+  }
+}
@@ -0,0 +1,390 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Интернер значений с учетом в {@link CacheStatistics}.
+ * <p>
+ * Возвращает единственный экземпляр для каждого набора равных значений. Безымянный интернер
+ * не регистрируется в статистике и всегда удерживает значения до очистки: временем его жизни управляет
+ * владелец. Именованные интернеры - общие для процесса кэши библиотеки, они следуют общей стратегии
+ * {@link #getStrategy()}, которую задает системное свойство {@value #STRATEGY_PROPERTY} или метод
+ * {@link #setStrategy(Strategy)}.
+ *
+ * @param <T> Тип значений
+ */
+@Slf4j
+public final class Interner<T> {
+  /**
+   * Системное свойство со стратегией интернирования общих кэшей: strong, weak или none
+   */
+  public static final String STRATEGY_PROPERTY = "bsl.interner.strategy";
+
+  /**
+   * Оценка накладных расходов на элемент: узел и ячейка таблицы {@link ConcurrentHashMap}
+   */
+  private static final long ENTRY_OVERHEAD_BYTES = 40;
+
+  /**
+   * Оценка размера слабой ссылки на значение
+   */
+  private static final long WEAK_KEY_BYTES = 40;
+
+  private static final List<Interner<?>> SHARED = new CopyOnWriteArrayList<>();
+  private static final List<Consumer<Strategy>> STRATEGY_LISTENERS = new CopyOnWriteArrayList<>();
+  private static final ThreadLocal<LookupKey> LOOKUP_KEYS = ThreadLocal.withInitial(LookupKey::new);
+
+  private static volatile Strategy strategy = strategyOf(System.getProperty(STRATEGY_PROPERTY));
+
+  /**
+   * Стратегия интернирования
+   */
+  public enum Strategy {
+    /**
+     * Значения хранятся до очистки интернера
+     */
+    STRONG,
+    /**
+     * Значения хранятся, пока на них есть сильные ссылки извне
+     */
+    WEAK,
+    /**
+     * Значения не сохраняются, каждый вызов возвращает переданный экземпляр
+     */
+    NONE
+  }
+
+  /**
+   * Значения по ключам. Для стратегии {@link Strategy#STRONG} ключ и значение - само значение,
+   * для {@link Strategy#WEAK} - слабая ссылка {@link WeakKey} на него
+   */
+  private final Map<Object, Object> values = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+  @Nullable
+  private final CacheMetrics metrics;
+
+  private volatile Strategy mode;
+
+  /**
+   * Создает интернер, не учитываемый в статистике
+   */
+  public Interner() {
+    metrics = null;
+    mode = Strategy.STRONG;
+  }
+
+  /**
+   * Создает интернер, учитываемый в статистике
+   *
+   * @param name       Уникальное имя кэша
+   * @param valueBytes Оценка собственного размера значения в байтах (без разделяемых полей)
+   */
+  public Interner(String name, long valueBytes) {
+    metrics = CacheStatistics.register(name, this::size, () -> size() * (valueBytes + entryOverhead()));
+    mode = strategy;
+    SHARED.add(this);
+  }
+
+  private Interner(String name, ToLongFunction<T> sizeOf) {
+    metrics = CacheStatistics.register(name, this::size, () -> values.values().stream()
+      .map(Interner::<T>unwrap)
+      .filter(Objects::nonNull)
+      .mapToLong(value -> sizeOf.applyAsLong(value) + entryOverhead())
+      .sum());
+    mode = strategy;
+    SHARED.add(this);
+  }
+
+  /**
+   * Создает интернер строк, учитываемый в статистике
+   *
+   * @param name Уникальное имя кэша
+   * @return Интернер
+   */
+  public static Interner<String> forStrings(String name) {
+    return new Interner<>(name, CacheStatistics::approximateBytes);
+  }
+
+  /**
+   * @return Текущая стратегия общих интернеров
+   */
+  public static Strategy getStrategy() {
+    return strategy;
+  }
+
+  /**
+   * Устанавливает стратегию общих (именованных) интернеров. Сохраненные значения сбрасываются,
+   * ранее выданные экземпляры остаются корректными, но могут не совпадать по ссылке с новыми
+   *
+   * @param value Стратегия
+   */
+  public static synchronized void setStrategy(Strategy value) {
+    strategy = value;
+    SHARED.forEach(interner -> interner.switchTo(value));
+    STRATEGY_LISTENERS.forEach(listener -> listener.accept(value));
+  }
+
+  /**
+   * Регистрирует обработчик смены стратегии общих интернеров. Применяется кэшами, которые хранят
+   * интернированные значения и должны освобождать их вместе с интернером
+   *
+   * @param listener Обработчик, получающий новую стратегию
+   */
+  public static void addStrategyListener(Consumer<Strategy> listener) {
+    STRATEGY_LISTENERS.add(listener);
+  }
+
+  /**
+   * Возвращает ранее сохраненное значение, равное переданному, либо сохраняет переданное
+   *
+   * @param value Значение
+   * @return Единственный экземпляр значения
+   */
+  public T intern(T value) {
+    return switch (mode) {
+      case STRONG -> internStrong(value);
+      case WEAK -> internWeak(value);
+      case NONE -> value;
+    };
+  }
+
+  /**
+   * Выполняет поиск сохраненного значения по ключу, равному значению. Позволяет искать по ключу
+   * другого типа, не создавая экземпляр значения: метод {@code equals} ключа должен признавать
+   * равное значение, а {@code hashCode} совпадать с хешем значения
+   *
+   * @param key Ключ поиска
+   * @return Сохраненное значение либо null
+   */
+  @Nullable
+  public T find(Object key) {
+    var existing = switch (mode) {
+      case STRONG -> Interner.<T>unwrap(values.get(key));
+      case WEAK -> findWeak(key);
+      case NONE -> null;
+    };
+    if (existing != null && metrics != null) {
+      metrics.recordHit();
+    }
+    return existing;
+  }
+
+  /**
+   * @return Количество сохраненных значений
+   */
+  public int size() {
+    expungeStaleEntries();
+    return values.size();
+  }
+
+  /**
+   * Удаляет все сохраненные значения
+   */
+  public void clear() {
+    values.clear();
+    expungeStaleEntries();
+  }
+
+  private T internStrong(T value) {
+    var existing = Interner.<T>unwrap(values.get(value));
+    if (existing != null) {
+      recordHit();
+      return existing;
+    }
+
+    var previous = values.putIfAbsent(value, value);
+    recordMiss(previous != null);
+    existing = unwrap(previous);
+    return existing == null ? value : existing;
+  }
+
+  private T internWeak(T value) {
+    var existing = findWeak(value);
+    if (existing != null) {
+      recordHit();
+      return existing;
+    }
+
+    expungeStaleEntries();
+    var key = new WeakKey(value, queue);
+    var contended = false;
+    Object current;
+    while ((current = values.putIfAbsent(key, key)) != null) {
+      existing = unwrap(current);
+      if (existing != null) {
+        recordMiss(true);
+        return existing;
+      }
+      // равное значение собрано сборщиком мусора между поиском и вставкой
+      contended = true;
+      values.remove(current, current);
+    }
+    recordMiss(contended);
+    return value;
+  }
+
+  @Nullable
+  private T findWeak(Object key) {
+    var lookup = LOOKUP_KEYS.get().set(key);
+    try {
+      return unwrap(values.get(lookup));
+    } finally {
+      lookup.release();
+    }
+  }
+
+  private void switchTo(Strategy value) {
+    mode = value;
+    clear();
+  }
+
+  private long entryOverhead() {
+    return mode == Strategy.WEAK ? ENTRY_OVERHEAD_BYTES + WEAK_KEY_BYTES : ENTRY_OVERHEAD_BYTES;
+  }
+
+  private void recordHit() {
+    if (metrics != null) {
+      metrics.recordHit();
+    }
+  }
+
+  private void recordMiss(boolean contended) {
+    if (metrics != null) {
+      metrics.recordMiss();
+      if (contended) {
+        metrics.recordContention();
+      }
+    }
+  }
+
+  private void expungeStaleEntries() {
+    Reference<?> stale;
+    while ((stale = queue.poll()) != null) {
+      values.remove(stale, stale);
+    }
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private static <T> T unwrap(@Nullable Object holder) {
+    if (holder instanceof WeakKey weakKey) {
+      return (T) weakKey.get();
+    }
+    return (T) holder;
+  }
+
+  /**
+   * Определяет стратегию по значению системного свойства. Нераспознанное значение не должно прерывать
+   * инициализацию класса, поэтому вместо него применяется {@link Strategy#STRONG}
+   */
+  static Strategy strategyOf(@Nullable String value) {
+    if (value == null || value.isBlank()) {
+      return Strategy.STRONG;
+    }
+    try {
+      return Strategy.valueOf(value.strip().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      LOGGER.warn("Unknown value '{}' of {}, expected one of {}. Using STRONG",
+        value, STRATEGY_PROPERTY, Arrays.toString(Strategy.values()));
+      return Strategy.STRONG;
+    }
+  }
+
+  /**
+   * Слабая ссылка на сохраненное значение с хешем значения. Равна другой ссылке на равное значение
+   */
+  private static final class WeakKey extends WeakReference<Object> {
+    private final int hash;
+
+    private WeakKey(Object referent, ReferenceQueue<Object> queue) {
+      super(referent, queue);
+      hash = referent.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof WeakKey other) || hash != other.hash) {
+        return false;
+      }
+      var value = get();
+      return value != null && value.equals(other.get());
+    }
+  }
+
+  /**
+   * Переиспользуемый ключ потока для поиска среди слабых ссылок по значению либо ключу поиска
+   */
+  private static final class LookupKey {
+    @Nullable
+    private Object target;
+    private int hash;
+
+    private LookupKey set(Object value) {
+      target = value;
+      hash = value.hashCode();
+      return this;
+    }
+
+    private void release() {
+      target = null;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      if (!(obj instanceof WeakKey weakKey) || hash != weakKey.hash || target == null) {
+        return false;
+      }
+      var value = weakKey.get();
+      return value != null && target.equals(value);
+    }
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.cache;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Пул строк, хранящий символы вне кучи.
+ * <p>
+ * Каждая строка сохраняется один раз в блоке прямой памяти ({@link ByteBuffer#allocateDirect(int)})
+ * и выдается как легковесный дескриптор {@link PooledString}. Строки только из символов Latin-1
+ * хранятся по байту на символ, остальные - по два байта, так что для кириллицы объем совпадает с UTF-8,
+ * а доступ к символу по индексу не требует декодирования. В куче остаются только дескрипторы
+ * и таблица поиска, поэтому сборщику мусора не нужно просматривать символы имен.
+ * <p>
+ * Память блоков освобождается, когда недостижимы пул и все выданные им дескрипторы.
+ * Поиск ранее сохраненной строки не блокирует, добавление выполняется под блокировкой пула.
+ */
+public final class OffHeapStringPool {
+  /**
+   * Размер блока по умолчанию
+   */
+  public static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+
+  /**
+   * Оценка размера дескриптора и узла таблицы поиска в куче
+   */
+  private static final long HANDLE_BYTES = 32 + 40;
+
+  private static final ThreadLocal<Probe> PROBES = ThreadLocal.withInitial(Probe::new);
+
+  private final Map<Object, PooledString> strings = new ConcurrentHashMap<>();
+  private final int chunkBytes;
+
+  @Nullable
+  private final CacheMetrics metrics;
+
+  private ByteBuffer chunk;
+  private long allocatedBytes;
+  private long usedBytes;
+
+  /**
+   * Создает пул, не учитываемый в статистике
+   */
+  public OffHeapStringPool() {
+    this(DEFAULT_CHUNK_BYTES, null);
+  }
+
+  /**
+   * Создает пул, учитываемый в статистике
+   *
+   * @param name Уникальное имя кэша
+   */
+  public OffHeapStringPool(String name) {
+    this(DEFAULT_CHUNK_BYTES, name);
+  }
+
+  /**
+   * Создает пул с указанным размером блока
+   *
+   * @param chunkBytes Размер блока прямой памяти в байтах
+   * @param name       Уникальное имя кэша либо null, если пул не учитывается в статистике
+   */
+  public OffHeapStringPool(int chunkBytes, @Nullable String name) {
+    if (chunkBytes <= 0) {
+      throw new IllegalArgumentException("Chunk size must be positive: " + chunkBytes);
+    }
+    this.chunkBytes = chunkBytes;
+    this.chunk = ByteBuffer.allocate(0);
+    this.metrics = name == null ? null
+      : CacheStatistics.register(name, this::size, () -> usedBytes() + size() * HANDLE_BYTES);
+  }
+
+  /**
+   * Возвращает дескриптор строки, сохраняя ее символы в пуле, если их там еще нет
+   *
+   * @param value Строка
+   * @return Дескриптор строки
+   */
+  public PooledString intern(CharSequence value) {
+    if (value instanceof PooledString pooled && strings.get(pooled) == pooled) {
+      return pooled;
+    }
+
+    var probe = PROBES.get().set(value);
+    try {
+      var existing = strings.get(probe);
+      if (existing != null) {
+        if (metrics != null) {
+          metrics.recordHit();
+        }
+        return existing;
+      }
+    } finally {
+      probe.release();
+    }
+
+    synchronized (this) {
+      probe = PROBES.get().set(value);
+      try {
+        var existing = strings.get(probe);
+        if (existing != null) {
+          if (metrics != null) {
+            metrics.recordContention();
+          }
+          return existing;
+        }
+      } finally {
+        probe.release();
+      }
+      if (metrics != null) {
+        metrics.recordMiss();
+      }
+      var created = store(value);
+      strings.put(created, created);
+      return created;
+    }
+  }
+
+  /**
+   * @return Количество сохраненных строк
+   */
+  public int size() {
+    return strings.size();
+  }
+
+  /**
+   * @return Объем прямой памяти, занятой символами строк
+   */
+  public synchronized long usedBytes() {
+    return usedBytes;
+  }
+
+  /**
+   * @return Объем выделенной прямой памяти
+   */
+  public synchronized long allocatedBytes() {
+    return allocatedBytes;
+  }
+
+  private PooledString store(CharSequence value) {
+    var length = value.length();
+    var latin1 = true;
+    for (var i = 0; i < length && latin1; i++) {
+      latin1 = value.charAt(i) <= 0xFF;
+    }
+    var bytes = latin1 ? length : 2 * length;
+    if (chunk.remaining() < bytes) {
+      var size = Math.max(chunkBytes, bytes);
+      chunk = ByteBuffer.allocateDirect(size);
+      allocatedBytes += size;
+    }
+
+    var offset = chunk.position();
+    var hash = 0;
+    for (var i = 0; i < length; i++) {
+      var c = value.charAt(i);
+      hash = 31 * hash + c;
+      if (latin1) {
+        chunk.put((byte) c);
+      } else {
+        chunk.putChar(c);
+      }
+    }
+    usedBytes += bytes;
+    return new PooledString(chunk, offset, length, latin1, hash);
+  }
+
+  /**
+   * Ключ потока для поиска строки в таблице по произвольной последовательности символов
+   */
+  private static final class Probe {
+    private CharSequence chars = "";
+    private int hash;
+
+    private Probe set(CharSequence chars) {
+      this.chars = chars;
+      this.hash = chars instanceof String string ? string.hashCode() : computeHash(chars);
+      return this;
+    }
+
+    private void release() {
+      chars = "";
+    }
+
+    private static int computeHash(CharSequence chars) {
+      var result = 0;
+      for (var i = 0; i < chars.length(); i++) {
+        result = 31 * result + chars.charAt(i);
+      }
+      return result;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      return obj instanceof PooledString pooled && pooled.hashCode() == hash && pooled.contentEquals(chars);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.cache;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Строка, символы которой хранятся вне кучи в {@link OffHeapStringPool}.
+ * <p>
+ * Объект содержит только положение символов в блоке пула, строка {@link String} формируется
+ * лишь при вызове {@link #toString()}. Посимвольный доступ не создает объектов.
+ * Равенство определяется по содержимому среди экземпляров {@link PooledString};
+ * со строками {@link String} экземпляр не равен, для сравнения следует использовать
+ * {@link CharSequence#compare(CharSequence, CharSequence)}.
+ */
+public final class PooledString implements CharSequence {
+  private final ByteBuffer chunk;
+  private final int offset;
+  private final int length;
+  private final boolean latin1;
+  private final int hash;
+
+  PooledString(ByteBuffer chunk, int offset, int length, boolean latin1, int hash) {
+    this.chunk = chunk;
+    this.offset = offset;
+    this.length = length;
+    this.latin1 = latin1;
+    this.hash = hash;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (index < 0 || index >= length) {
+      throw new StringIndexOutOfBoundsException(index);
+    }
+    if (latin1) {
+      return (char) (chunk.get(offset + index) & 0xFF);
+    }
+    return chunk.getChar(offset + 2 * index);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return toString().substring(start, end);
+  }
+
+  /**
+   * Возвращает количество байт, занимаемых символами в пуле
+   *
+   * @return Размер символов в байтах
+   */
+  public int encodedBytes() {
+    return latin1 ? length : 2 * length;
+  }
+
+  /**
+   * Сравнивает содержимое с последовательностью символов
+   *
+   * @param chars Последовательность символов
+   * @return Признак совпадения
+   */
+  public boolean contentEquals(CharSequence chars) {
+    if (chars.length() != length) {
+      return false;
+    }
+    for (var i = 0; i < length; i++) {
+      if (charAt(i) != chars.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    if (latin1) {
+      var bytes = new byte[length];
+      chunk.get(offset, bytes);
+      return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+    var chars = new char[length];
+    for (var i = 0; i < length; i++) {
+      chars[i] = chunk.getChar(offset + 2 * i);
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Хеш совпадает с {@link String#hashCode()} строки с тем же содержимым
+   */
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    return obj instanceof PooledString other && hash == other.hash && contentEquals(other);
+  }
+}
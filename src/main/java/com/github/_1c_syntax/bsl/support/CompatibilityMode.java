@@ -21,16 +21,24 @@
  */
 package com.github._1c_syntax.bsl.support;
 
+import com.github._1c_syntax.bsl.cache.CacheMetrics;
+import com.github._1c_syntax.bsl.cache.CacheStatistics;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
- * Класс реализующий объект для хранения режима совместимости конфигурации
+ * Класс реализующий объект для хранения режима совместимости конфигурации.
+ * <p>
+ * Экземпляры неизменяемы. Фабричные методы {@link #of(String)} и {@link #of(int, int)} возвращают
+ * общие экземпляры, строковое представление разбирается один раз. Версия упакована в целое число
+ * ({@link #getKey()}), поэтому сравнение режимов - это сравнение двух чисел
  */
-@EqualsAndHashCode
+@EqualsAndHashCode(of = "key")
 public class CompatibilityMode {
   private static final String VERSION8_1 = "Version8_1";
   private static final String DONT_USE = "DontUse";
@@ -39,44 +47,101 @@ public class CompatibilityMode {
   private static final int SECOND_VERSION = 2;
   private static final int FIFTH_VERSION = 5;
   private static final int VERSION_POSITION = 2;
+  private static final int MINOR_SHIFT = 16;
+  private static final int VERSION_MASK = (1 << MINOR_SHIFT) - 1;
   private static final Pattern VERSION_SPLITTER = Pattern.compile("([_.])");
 
+  /**
+   * Общие экземпляры по упакованной версии. Версий немного, поэтому экземпляры хранятся постоянно,
+   * независимо от стратегии интернирования
+   */
+  private static final Map<Integer, CompatibilityMode> BY_KEY = new ConcurrentHashMap<>();
+  private static final Map<String, CompatibilityMode> BY_VALUE = new ConcurrentHashMap<>();
+
+  /**
+   * Оценка размера элемента кэша экземпляров: узел таблицы, ключ и экземпляр
+   */
+  private static final long KEY_ENTRY_BYTES = 40 + 16 + 24;
+
+  /**
+   * Оценка размера элемента кэша строковых представлений: узел таблицы и строка ключа
+   */
+  private static final long VALUE_ENTRY_BYTES = 40 + 48;
+  private static final CacheMetrics METRICS = CacheStatistics.register("CompatibilityMode.values",
+    BY_VALUE::size, () -> BY_VALUE.size() * VALUE_ENTRY_BYTES);
+
+  static {
+    CacheStatistics.register("CompatibilityMode", BY_KEY::size, () -> BY_KEY.size() * KEY_ENTRY_BYTES);
+  }
+
   @Getter
   private static final int MAJOR = 8;
   @Getter
-  private int minor;
+  private final int minor;
+  @Getter
+  private final int version;
+
+  /**
+   * Упакованная версия: номер редакции в старших разрядах, номер версии в младших
+   */
   @Getter
-  private int version;
+  private final int key;
 
   public CompatibilityMode() {
     this(DONT_USE);
   }
 
+  /**
+   * Создает режим по строковому представлению, например Version_8_3_10.
+   * Для повторяющихся значений следует использовать {@link #of(String)}
+   *
+   * @param value Строковое представление режима
+   */
   public CompatibilityMode(String value) {
+    this(parse(value));
+  }
 
-    if (value.equalsIgnoreCase(DONT_USE) || value.isEmpty()) {
-      // «Совместимость не используется» — исполнение на актуальной платформе без
-      // ограничений. Представляем как 8.99.99, чтобы режим доминировал над любой
-      // конкретной версией (включая семейство 8.5+), а не трактовался как 8.3.99.
-      setVersionComponents(MAX_VERSION, MAX_VERSION);
-      return;
-    }
-
-    if (value.equals(VERSION8_1)) {
-      setVersionComponents(1, 0);
-      return;
-    }
+  public CompatibilityMode(int minor, int version) {
+    this.minor = minor;
+    this.version = version;
+    this.key = key(minor, version);
+  }
 
-    // Разбор версии, например Version_8_3_10
-    String newValue = value.toUpperCase(Locale.ENGLISH).replace("VERSION_", "");
+  private CompatibilityMode(int key) {
+    this(minorOf(key), versionOf(key));
+  }
 
-    String[] array = VERSION_SPLITTER.split(newValue);
-    setVersionComponents(Integer.parseInt(array[1]), Integer.parseInt(array[VERSION_POSITION]));
+  /**
+   * Возвращает общий экземпляр режима совместимости по строковому представлению,
+   * например Version_8_3_10 или DontUse
+   *
+   * @param value Строковое представление режима
+   * @return Режим совместимости
+   */
+  public static CompatibilityMode of(String value) {
+    var result = BY_VALUE.get(value);
+    if (result != null) {
+      METRICS.recordHit();
+      return result;
+    }
+    METRICS.recordMiss();
+    return BY_VALUE.computeIfAbsent(value, key -> ofKey(parse(key)));
+  }
 
+  /**
+   * Возвращает общий экземпляр режима совместимости по номерам редакции и версии
+   *
+   * @param minor   Номер редакции, например 3 для 8.3
+   * @param version Номер версии, например 10 для 8.3.10
+   * @return Режим совместимости
+   */
+  public static CompatibilityMode of(int minor, int version) {
+    return ofKey(key(minor, version));
   }
 
-  public CompatibilityMode(int minor, int version) {
-    setVersionComponents(minor, version);
+  private static CompatibilityMode ofKey(int key) {
+    var result = BY_KEY.get(key);
+    return result == null ? BY_KEY.computeIfAbsent(key, CompatibilityMode::new) : result;
   }
 
   /**
@@ -118,17 +183,7 @@ public class CompatibilityMode {
    * -1 - первая версия больше
    */
   public static int compareTo(CompatibilityMode versionA, CompatibilityMode versionB) {
-    var result = 1;
-    if (versionA.minor == versionB.minor) {
-      if (versionA.version == versionB.version) {
-        result = 0;
-      } else if (versionA.version > versionB.version) {
-        result = -1;
-      }
-    } else if (versionA.minor > versionB.minor) {
-      result = -1;
-    }
-    return result;
+    return Integer.compare(versionB.key, versionA.key);
   }
 
   /**
@@ -142,11 +197,53 @@ public class CompatibilityMode {
    * -1 - первая версия больше
    */
   public static int compareTo(CompatibilityMode versionA, String versionB) {
-    return compareTo(versionA, new CompatibilityMode(versionB));
+    return compareTo(versionA, of(versionB));
   }
 
-  private void setVersionComponents(int minor, int version) {
-    this.minor = minor;
-    this.version = version;
+  /**
+   * Упаковывает номера редакции и версии в ключ, сохраняющий порядок версий
+   *
+   * @param minor   Номер редакции
+   * @param version Номер версии
+   * @return Упакованная версия
+   */
+  static int key(int minor, int version) {
+    return minor << MINOR_SHIFT | version;
+  }
+
+  /**
+   * Возвращает номер редакции из упакованной версии
+   */
+  static int minorOf(int key) {
+    return key >>> MINOR_SHIFT;
+  }
+
+  /**
+   * Возвращает номер версии из упакованной версии
+   */
+  static int versionOf(int key) {
+    return key & VERSION_MASK;
+  }
+
+  /**
+   * Разбирает строковое представление режима в упакованную версию
+   */
+  private static int parse(String value) {
+    if (value.equalsIgnoreCase(DONT_USE) || value.isEmpty()) {
+      // «Совместимость не используется» — исполнение на актуальной платформе без
+      // ограничений. Представляем как 8.99.99, чтобы режим доминировал над любой
+      // конкретной версией (включая семейство 8.5+), а не трактовался как 8.3.99.
+      return key(MAX_VERSION, MAX_VERSION);
+    }
+
+    if (value.equals(VERSION8_1)) {
+      return key(1, 0);
+    }
+
+    // Разбор версии, например Version_8_3_10
+    String newValue = value.toUpperCase(Locale.ENGLISH).replace("VERSION_", "");
+
+    String[] array = VERSION_SPLITTER.split(newValue);
+    return key(Integer.parseInt(array[1]), Integer.parseInt(array[VERSION_POSITION]));
   }
 }
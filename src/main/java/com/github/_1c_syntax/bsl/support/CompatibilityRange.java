@@ -0,0 +1,335 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.support;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Диапазон режимов совместимости для включения диагностик.
+ * <p>
+ * Диапазон - объединение интервалов с включающими или исключающими границами, например
+ * {@code [8.3.10, 8.3.20)} или {@code (, 8.2], [8.3.6, )}. Интервалы хранятся как отсортированные
+ * полуоткрытые отрезки упакованных версий ({@link CompatibilityMode#getKey()}), поэтому проверка режима
+ * не требует разбора строк и сравнения компонент версии.
+ */
+public final class CompatibilityRange {
+  /**
+   * Все режимы совместимости
+   */
+  public static final CompatibilityRange ALL = new CompatibilityRange(new int[]{0, Integer.MAX_VALUE});
+
+  /**
+   * Пустой диапазон
+   */
+  public static final CompatibilityRange NONE = new CompatibilityRange(new int[0]);
+
+  /**
+   * Границы интервалов: четные элементы - начало (включая), нечетные - конец (не включая)
+   */
+  private final int[] bounds;
+  private final int hash;
+
+  private CompatibilityRange(int[] bounds) {
+    this.bounds = bounds;
+    this.hash = Arrays.hashCode(bounds);
+  }
+
+  /**
+   * Создает диапазон из одного интервала
+   *
+   * @param lower          Нижняя граница, {@code null} - без ограничения
+   * @param lowerInclusive Признак включения нижней границы
+   * @param upper          Верхняя граница, {@code null} - без ограничения
+   * @param upperInclusive Признак включения верхней границы
+   * @return Диапазон
+   */
+  public static CompatibilityRange of(@Nullable CompatibilityMode lower, boolean lowerInclusive,
+                                      @Nullable CompatibilityMode upper, boolean upperInclusive) {
+    return interval(
+      lower == null ? 0 : lowerBound(lower.getKey(), lowerInclusive),
+      upper == null ? Integer.MAX_VALUE : upperBound(upper.getKey(), upperInclusive));
+  }
+
+  /**
+   * Создает диапазон режимов не ниже указанного
+   *
+   * @param lower Нижняя граница (включая)
+   * @return Диапазон
+   */
+  public static CompatibilityRange atLeast(CompatibilityMode lower) {
+    return of(lower, true, null, false);
+  }
+
+  /**
+   * Создает диапазон режимов ниже указанного
+   *
+   * @param upper Верхняя граница (не включая)
+   * @return Диапазон
+   */
+  public static CompatibilityRange lessThan(CompatibilityMode upper) {
+    return of(null, false, upper, false);
+  }
+
+  /**
+   * Создает диапазон режимов семейства версий, например 8.3 для {@code family(3)}
+   *
+   * @param minor Номер редакции
+   * @return Диапазон
+   */
+  public static CompatibilityRange family(int minor) {
+    return interval(CompatibilityMode.key(minor, 0), CompatibilityMode.key(minor + 1, 0));
+  }
+
+  /**
+   * Разбирает строковое представление диапазона: интервалы через запятую, например
+   * {@code [8.3.10, 8.3.20)} или {@code (, 8.2], [8.3.6, )}. Пустая граница означает отсутствие
+   * ограничения. Границы задаются номером версии ({@code 8.3.10}, {@code 8.3}) или значением режима
+   * совместимости ({@code Version_8_3_10}, {@code DontUse}). Версия без третьей компоненты обозначает
+   * все семейство версий: {@code (, 8.2]} включает 8.2.16, а {@code (8.2, )} начинается с 8.3.0
+   *
+   * @param value Строковое представление
+   * @return Диапазон
+   * @throws IllegalArgumentException если строка не является диапазоном
+   */
+  public static CompatibilityRange parse(String value) {
+    var result = NONE;
+    var position = skipSpaces(value, 0);
+    while (position < value.length()) {
+      var open = value.charAt(position);
+      var comma = value.indexOf(',', position);
+      var close = comma < 0 ? -1 : indexOfClose(value, comma + 1);
+      if ((open != '[' && open != '(') || close < 0) {
+        throw new IllegalArgumentException("Incorrect compatibility range " + value);
+      }
+      var lower = parseBound(value, position + 1, comma);
+      var upper = parseBound(value, comma + 1, close);
+      var lowerInclusive = open == '[';
+      var upperInclusive = value.charAt(close) == ']';
+      result = result.union(interval(
+        lower == null ? 0 : lowerBound(lowerInclusive ? lower[0] : lower[1], lowerInclusive),
+        upper == null ? Integer.MAX_VALUE : upperBound(upperInclusive ? upper[1] : upper[0], upperInclusive)));
+
+      position = skipSpaces(value, close + 1);
+      if (position < value.length()) {
+        if (value.charAt(position) != ',') {
+          throw new IllegalArgumentException("Incorrect compatibility range " + value);
+        }
+        position = skipSpaces(value, position + 1);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Проверяет вхождение режима совместимости в диапазон
+   *
+   * @param mode Режим совместимости
+   * @return Признак вхождения
+   */
+  public boolean contains(CompatibilityMode mode) {
+    return contains(mode.getKey());
+  }
+
+  /**
+   * Проверяет вхождение упакованной версии в диапазон
+   *
+   * @param key Упакованная версия ({@link CompatibilityMode#getKey()})
+   * @return Признак вхождения
+   */
+  public boolean contains(int key) {
+    if (bounds.length == 2) {
+      return key >= bounds[0] && key < bounds[1];
+    }
+    var index = Arrays.binarySearch(bounds, key);
+    return index >= 0 ? (index & 1) == 0 : (-index - 1 & 1) == 1;
+  }
+
+  /**
+   * Возвращает признак пустого диапазона
+   */
+  public boolean isEmpty() {
+    return bounds.length == 0;
+  }
+
+  /**
+   * Объединяет диапазоны
+   *
+   * @param other Другой диапазон
+   * @return Диапазон, содержащий режимы обоих диапазонов
+   */
+  public CompatibilityRange union(CompatibilityRange other) {
+    if (other.bounds.length == 0 || this.equals(other)) {
+      return this;
+    } else if (bounds.length == 0) {
+      return other;
+    }
+
+    var intervals = new ArrayList<int[]>();
+    addIntervals(intervals, bounds);
+    addIntervals(intervals, other.bounds);
+    intervals.sort((left, right) -> Integer.compare(left[0], right[0]));
+
+    var result = new int[bounds.length + other.bounds.length];
+    var size = 0;
+    for (var interval : intervals) {
+      if (size > 0 && interval[0] <= result[size - 1]) {
+        result[size - 1] = Math.max(result[size - 1], interval[1]);
+      } else {
+        result[size++] = interval[0];
+        result[size++] = interval[1];
+      }
+    }
+    return new CompatibilityRange(Arrays.copyOf(result, size));
+  }
+
+  /**
+   * Возвращает упакованные границы интервалов: четные элементы - начало (включая),
+   * нечетные - конец (не включая)
+   */
+  int[] bounds() {
+    return bounds;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    return obj instanceof CompatibilityRange other
+      && hash == other.hash
+      && Arrays.equals(bounds, other.bounds);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    var result = new StringBuilder();
+    for (var i = 0; i < bounds.length; i += 2) {
+      if (i > 0) {
+        result.append(", ");
+      }
+      if (bounds[i] == 0) {
+        result.append("(, ");
+      } else {
+        appendVersion(result.append('['), bounds[i]).append(", ");
+      }
+      if (bounds[i + 1] == Integer.MAX_VALUE) {
+        result.append(')');
+      } else {
+        appendVersion(result, bounds[i + 1]).append(')');
+      }
+    }
+    return result.toString();
+  }
+
+  private static CompatibilityRange interval(int from, int to) {
+    if (from >= to) {
+      return NONE;
+    } else if (from == 0 && to == Integer.MAX_VALUE) {
+      return ALL;
+    }
+    return new CompatibilityRange(new int[]{from, to});
+  }
+
+  private static int lowerBound(int key, boolean inclusive) {
+    return inclusive ? key : key + 1;
+  }
+
+  private static int upperBound(int key, boolean inclusive) {
+    return inclusive ? key + 1 : key;
+  }
+
+  private static void addIntervals(List<int[]> intervals, int[] bounds) {
+    for (var i = 0; i < bounds.length; i += 2) {
+      intervals.add(new int[]{bounds[i], bounds[i + 1]});
+    }
+  }
+
+  private static int indexOfClose(String value, int from) {
+    for (var i = from; i < value.length(); i++) {
+      var c = value.charAt(i);
+      if (c == ']' || c == ')') {
+        return i;
+      } else if (c == ',' || c == '[' || c == '(') {
+        return -1;
+      }
+    }
+    return -1;
+  }
+
+  private static int skipSpaces(String value, int from) {
+    var result = from;
+    while (result < value.length() && Character.isWhitespace(value.charAt(result))) {
+      result++;
+    }
+    return result;
+  }
+
+  /**
+   * Разбирает границу интервала
+   *
+   * @return Первая и последняя упакованные версии, обозначаемые границей, либо null для пустой границы
+   */
+  private static int @Nullable [] parseBound(String value, int start, int end) {
+    var text = value.substring(start, end).strip();
+    if (text.isEmpty()) {
+      return null;
+    } else if (!Character.isDigit(text.charAt(0))) {
+      try {
+        var key = CompatibilityMode.of(text).getKey();
+        return new int[]{key, key};
+      } catch (IndexOutOfBoundsException | NumberFormatException e) {
+        throw new IllegalArgumentException("Incorrect compatibility version " + text, e);
+      }
+    }
+
+    var parts = text.split("\\.");
+    if (parts.length < 2 || parts.length > 3 || !"8".equals(parts[0])) {
+      throw new IllegalArgumentException("Incorrect compatibility version " + text);
+    }
+    try {
+      var minor = Integer.parseInt(parts[1]);
+      if (parts.length == 2) {
+        // версия без третьей компоненты - все семейство
+        return new int[]{CompatibilityMode.key(minor, 0), CompatibilityMode.key(minor + 1, 0) - 1};
+      }
+      var key = CompatibilityMode.key(minor, Integer.parseInt(parts[2]));
+      return new int[]{key, key};
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Incorrect compatibility version " + text, e);
+    }
+  }
+
+  private static StringBuilder appendVersion(StringBuilder builder, int key) {
+    return builder.append(CompatibilityMode.getMAJOR())
+      .append('.').append(CompatibilityMode.minorOf(key))
+      .append('.').append(CompatibilityMode.versionOf(key));
+  }
+}
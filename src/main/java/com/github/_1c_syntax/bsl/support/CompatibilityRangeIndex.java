@@ -0,0 +1,114 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.support;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Набор диапазонов совместимости правил с заранее вычисленными масками.
+ * <p>
+ * Границы всех диапазонов делят шкалу версий на отрезки, внутри которых набор включенных правил
+ * не меняется. Маска включенных правил каждого отрезка вычисляется при создании набора, поэтому
+ * для режима совместимости модуля весь набор правил определяется одним поиском отрезка,
+ * без сравнения версий по каждому правилу.
+ */
+public final class CompatibilityRangeIndex {
+  private final int size;
+
+  /**
+   * Начала отрезков шкалы версий по возрастанию, первый отрезок начинается с нуля
+   */
+  private final int[] starts;
+
+  /**
+   * Маски включенных правил для каждого отрезка
+   */
+  private final long[][] masks;
+
+  private CompatibilityRangeIndex(List<CompatibilityRange> ranges) {
+    size = ranges.size();
+    starts = IntStream.concat(IntStream.of(0), ranges.stream().flatMapToInt(range -> Arrays.stream(range.bounds())))
+      .filter(bound -> bound != Integer.MAX_VALUE)
+      .sorted()
+      .distinct()
+      .toArray();
+    masks = new long[starts.length][];
+    for (var segment = 0; segment < starts.length; segment++) {
+      var mask = new long[(size + Long.SIZE - 1) / Long.SIZE];
+      for (var rule = 0; rule < size; rule++) {
+        if (ranges.get(rule).contains(starts[segment])) {
+          mask[rule / Long.SIZE] |= 1L << rule;
+        }
+      }
+      masks[segment] = segment > 0 && Arrays.equals(mask, masks[segment - 1]) ? masks[segment - 1] : mask;
+    }
+  }
+
+  /**
+   * Создает набор по диапазонам правил. Номер правила - позиция его диапазона в списке
+   *
+   * @param ranges Диапазоны совместимости правил
+   * @return Набор диапазонов
+   */
+  public static CompatibilityRangeIndex of(List<CompatibilityRange> ranges) {
+    return new CompatibilityRangeIndex(ranges);
+  }
+
+  /**
+   * Возвращает количество правил в наборе
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Проверяет, включено ли правило для режима совместимости
+   *
+   * @param mode Режим совместимости
+   * @param rule Номер правила
+   * @return Признак включения правила
+   */
+  public boolean isEnabled(CompatibilityMode mode, int rule) {
+    if (rule < 0 || rule >= size) {
+      throw new IndexOutOfBoundsException(rule);
+    }
+    return (mask(mode)[rule / Long.SIZE] & 1L << rule) != 0;
+  }
+
+  /**
+   * Возвращает номера правил, включенных для режима совместимости
+   *
+   * @param mode Режим совместимости
+   * @return Новый набор номеров включенных правил
+   */
+  public BitSet enabled(CompatibilityMode mode) {
+    return BitSet.valueOf(mask(mode));
+  }
+
+  private long[] mask(CompatibilityMode mode) {
+    var index = Arrays.binarySearch(starts, mode.getKey());
+    return masks[index >= 0 ? index : -index - 2];
+  }
+}
@@ -24,9 +24,9 @@ package com.github._1c_syntax.bsl.types;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
+import org.jspecify.annotations.Nullable;
 
-import java.util.Locale;
-import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Варианты длины
@@ -36,7 +36,7 @@ public enum AllowedLength implements EnumWithName {
   FIXED("Fixed", "Фиксированная"),
   VARIABLE("Variable", "Переменная");
 
-  private static final Map<String, AllowedLength> KEYS = EnumWithName.computeKeys(values());
+  private static final Function<CharSequence, @Nullable AllowedLength> KEYS = EnumWithName.computeIndex(values());
 
   @Getter
   @Accessors(fluent = true)
@@ -54,6 +54,7 @@ public enum AllowedLength implements EnumWithName {
    * @return Найденное значение, если не найден - то VARIABLE
    */
   public static AllowedLength valueByName(String string) {
-    return KEYS.getOrDefault(string.toLowerCase(Locale.ROOT), VARIABLE);
+    var value = KEYS.apply(string);
+    return value == null ? VARIABLE : value;
   }
 }
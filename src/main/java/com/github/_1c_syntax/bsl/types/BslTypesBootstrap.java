@@ -0,0 +1,164 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import com.github._1c_syntax.bsl.cache.CacheStatistics;
+import com.github._1c_syntax.bsl.cache.Interner;
+import com.github._1c_syntax.bsl.types.qualifiers.BinaryDataQualifiers;
+import com.github._1c_syntax.bsl.types.qualifiers.DateQualifiers;
+import com.github._1c_syntax.bsl.types.qualifiers.NumberQualifiers;
+import com.github._1c_syntax.bsl.types.qualifiers.StringQualifiers;
+import com.github._1c_syntax.bsl.types.value.CustomValueType;
+import com.github._1c_syntax.bsl.types.value.MDOValueType;
+import com.github._1c_syntax.bsl.types.value.PrimitiveValueType;
+import com.github._1c_syntax.bsl.types.value.V8ValueType;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Предварительная инициализация таблиц типов библиотеки.
+ * <p>
+ * Первое обращение к {@link MDOType}, {@link ValueTypes}, {@link StdAttributeNames} или перечислениям типов
+ * значений запускает статическую инициализацию: построение индексов имен и создание сотен {@link MultiName}.
+ * Инициализация класса выполняется под блокировкой, поэтому вызвавший поток ждет ее завершения. Методы
+ * {@link #warmup()} и {@link #warmupAsync()} выполняют ее заранее, например при запуске сервера, распределяя
+ * независимые группы классов по потокам исполнителя. Группы не имеют циклических зависимостей между собой,
+ * поэтому параллельная инициализация не может привести к взаимной блокировке.
+ * <p>
+ * Для архива классов AppCDS достаточно выполнить пробный запуск
+ * {@code java -XX:ArchiveClassesAtExit=bsl-types.jsa -cp ... com.github._1c_syntax.bsl.types.BslTypesBootstrap}
+ * и запускать сервер с {@code -XX:SharedArchiveFile=bsl-types.jsa}: архив сокращает загрузку и проверку
+ * классов, сами таблицы строятся при инициализации.
+ */
+@Slf4j
+@UtilityClass
+public class BslTypesBootstrap {
+  /**
+   * Общие классы, от которых зависят все группы. Инициализируются первыми в одном потоке
+   */
+  private static final List<Class<?>> CORE = List.of(
+    CacheStatistics.class, Interner.class, PerfectHashIndex.class, CaseInsensitiveIndex.class,
+    EnumWithName.class, MultiName.class, ScriptVariant.class, LanguageKey.class);
+
+  /**
+   * Независимые группы классов, инициализируемые параллельно. Порядок внутри группы - порядок зависимостей
+   */
+  private static final List<List<Class<?>>> GROUPS = List.of(
+    List.of(MDOType.class, ModuleType.class, MDOValueType.class),
+    List.of(PrimitiveValueType.class),
+    List.of(V8ValueType.class),
+    List.of(StdAttributeNames.class),
+    List.of(MdoReference.class, MdoReferenceRegistry.class),
+    List.of(ConfigurationSource.class, ValueTypeVariant.class, MultiLanguageString.class),
+    List.of(AllowedLength.class, DateFractions.class, StringQualifiers.class, NumberQualifiers.class,
+      DateQualifiers.class, BinaryDataQualifiers.class));
+
+  /**
+   * Классы, зависящие от нескольких групп. Инициализируются после завершения всех групп
+   */
+  private static final List<Class<?>> DEPENDENT = List.of(
+    ValueTypes.class, CustomValueType.class, QualifierKind.class, ValueTypeBits.class, ValueTypeDescription.class);
+
+  private static final AtomicReference<CompletableFuture<Duration>> WARMUP = new AtomicReference<>();
+
+  /**
+   * Инициализирует таблицы типов в общем пуле {@link ForkJoinPool#commonPool()} и ожидает завершения.
+   * Повторный вызов возвращает результат первого
+   *
+   * @return Длительность инициализации
+   * @throws java.util.concurrent.CompletionException если инициализация класса завершилась ошибкой
+   */
+  public static Duration warmup() {
+    return warmupAsync().join();
+  }
+
+  /**
+   * Запускает инициализацию таблиц типов в общем пуле {@link ForkJoinPool#commonPool()}
+   *
+   * @return Результат с длительностью инициализации
+   */
+  public static CompletableFuture<Duration> warmupAsync() {
+    return warmupAsync(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Запускает инициализацию таблиц типов на переданном исполнителе. Если инициализация уже запущена,
+   * возвращает ее результат, не используя исполнитель
+   *
+   * @param executor Исполнитель задач инициализации
+   * @return Результат с длительностью инициализации
+   */
+  public static CompletableFuture<Duration> warmupAsync(Executor executor) {
+    var result = new CompletableFuture<Duration>();
+    var running = WARMUP.compareAndExchange(null, result);
+    if (running != null) {
+      return running;
+    }
+
+    var start = System.nanoTime();
+    var core = CompletableFuture.runAsync(() -> initialize(CORE), executor);
+    var groups = GROUPS.stream()
+      .map(group -> core.thenRunAsync(() -> initialize(group), executor))
+      .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(groups)
+      .thenRunAsync(() -> initialize(DEPENDENT), executor)
+      .whenComplete((ignored, error) -> {
+        if (error == null) {
+          var duration = Duration.ofNanos(System.nanoTime() - start);
+          LOGGER.debug("BSL types initialized in {} ms", duration.toMillis());
+          result.complete(duration);
+        } else {
+          // следующий вызов повторит попытку
+          WARMUP.compareAndSet(result, null);
+          result.completeExceptionally(error);
+        }
+      });
+    return result;
+  }
+
+  /**
+   * Выполняет инициализацию в текущем потоке. Используется для пробного запуска при создании архива AppCDS
+   *
+   * @param args Не используются
+   */
+  public static void main(String[] args) {
+    var duration = warmupAsync(Runnable::run).join();
+    LOGGER.info("BSL types initialized in {} ms", duration.toMillis());
+  }
+
+  private static void initialize(List<Class<?>> classes) {
+    for (var type : classes) {
+      try {
+        Class.forName(type.getName(), true, type.getClassLoader());
+      } catch (ClassNotFoundException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Регистронезависимый индекс значений по строковому ключу.
+ * <p>
+ * В отличие от карты с ключами в нижнем регистре, поиск не создает копию искомой строки: хеш и сравнение
+ * вычисляются по символам переданной последовательности (с быстрым путем для латиницы и кириллицы).
+ * Поиск возможен по фрагменту последовательности, без выделения подстроки.
+ * Индекс потокобезопасен.
+ *
+ * @param <T> Тип значений
+ */
+public final class CaseInsensitiveIndex<T> {
+  private final Map<NameKey, T> values;
+
+  private CaseInsensitiveIndex(int expectedSize) {
+    values = new ConcurrentHashMap<>(expectedSize);
+  }
+
+  /**
+   * Создает пустой индекс
+   *
+   * @param <T> Тип значений
+   * @return Индекс
+   */
+  public static <T> CaseInsensitiveIndex<T> create() {
+    return new CaseInsensitiveIndex<>(16);
+  }
+
+  /**
+   * Создает пустой индекс, рассчитанный на заданное количество ключей
+   *
+   * @param expectedSize Ожидаемое количество ключей
+   * @param <T>          Тип значений
+   * @return Индекс
+   */
+  public static <T> CaseInsensitiveIndex<T> create(int expectedSize) {
+    return new CaseInsensitiveIndex<>(expectedSize);
+  }
+
+  /**
+   * Ищет значение по ключу без учета регистра
+   *
+   * @param key Ключ
+   * @return Найденное значение, если не найдено - то null
+   */
+  @Nullable
+  public T get(CharSequence key) {
+    return get(key, 0, key.length());
+  }
+
+  /**
+   * Ищет значение по фрагменту последовательности без учета регистра
+   *
+   * @param key   Последовательность символов
+   * @param start Начало ключа
+   * @param end   Конец ключа (не включая)
+   * @return Найденное значение, если не найдено - то null
+   */
+  @Nullable
+  public T get(CharSequence key, int start, int end) {
+    var probe = NameKey.probe(key, start, end);
+    try {
+      return values.get(probe);
+    } finally {
+      probe.release();
+    }
+  }
+
+  /**
+   * Ищет значение по ключу без учета регистра
+   *
+   * @param key          Ключ
+   * @param defaultValue Значение по умолчанию
+   * @return Найденное значение, если не найдено - то значение по умолчанию
+   */
+  public T getOrDefault(CharSequence key, T defaultValue) {
+    var value = get(key);
+    return value == null ? defaultValue : value;
+  }
+
+  /**
+   * Добавляет значение, заменяя ранее сохраненное по этому ключу (без учета регистра)
+   *
+   * @param key   Ключ
+   * @param value Значение
+   * @return Ранее сохраненное значение, если ключа не было - то null
+   */
+  @Nullable
+  public T put(String key, T value) {
+    return values.put(NameKey.of(key), value);
+  }
+
+  /**
+   * Добавляет значение, если ключ (без учета регистра) еще не занят
+   *
+   * @param key   Ключ
+   * @param value Значение
+   * @return Ранее сохраненное значение, если ключа не было - то null
+   */
+  @Nullable
+  public T putIfAbsent(String key, T value) {
+    return values.putIfAbsent(NameKey.of(key), value);
+  }
+
+  /**
+   * Перебирает все ключи и значения индекса
+   *
+   * @param action Действие над ключом (в исходном регистре) и значением
+   */
+  public void forEach(BiConsumer<String, ? super T> action) {
+    values.forEach((key, value) -> action.accept(key.toString(), value));
+  }
+
+  /**
+   * @return Количество ключей
+   */
+  public int size() {
+    return values.size();
+  }
+}
@@ -24,9 +24,9 @@ package com.github._1c_syntax.bsl.types;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
+import org.jspecify.annotations.Nullable;
 
-import java.util.Locale;
-import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Части даты
@@ -37,7 +37,7 @@ public enum DateFractions implements EnumWithName {
   DATE_TIME("DateTime", "ДатаВремя"),
   TIME("Time", "Время");
 
-  private static final Map<String, DateFractions> KEYS = EnumWithName.computeKeys(values());
+  private static final Function<CharSequence, @Nullable DateFractions> KEYS = EnumWithName.computeIndex(values());
 
   @Getter
   @Accessors(fluent = true)
@@ -55,6 +55,7 @@ public enum DateFractions implements EnumWithName {
    * @return Найденное значение, если не найден - то DATE_TIME
    */
   public static DateFractions valueByName(String string) {
-    return KEYS.getOrDefault(string.toLowerCase(Locale.ROOT), DATE_TIME);
+    var value = KEYS.apply(string);
+    return value == null ? DATE_TIME : value;
   }
 }
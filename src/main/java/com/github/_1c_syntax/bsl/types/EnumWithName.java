@@ -21,10 +21,9 @@
  */
 package com.github._1c_syntax.bsl.types;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Locale;
-import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.Function;
 
 /**
  * Расширение для перечислений, подсказывающее о наличии строкового значения, по которому его можно найти
@@ -56,39 +55,25 @@ public interface EnumWithName {
   }
 
   /**
-   * Сервисный метод для формирования кеша ключей
+   * Сервисный метод для формирования неизменяемого регистронезависимого индекса по русским и английским именам
    *
    * @param values  Список элементов класса
    * @param exclude Исключаемый элемент
    * @param <T>     Тип класса
-   * @return Кеш ключей
+   * @return Функция поиска элемента по имени, для неизвестного имени возвращает null
    */
-  static <T extends EnumWithName> Map<String, T> computeKeys(T[] values, T exclude) {
-    Map<String, T> keysMap = new HashMap<>();
-    for (var element : values) {
-      if (element == exclude) {
-        continue;
-      }
-      keysMap.put(element.nameEn().toLowerCase(Locale.ROOT), element);
-      keysMap.put(element.nameRu().toLowerCase(Locale.ROOT), element);
-    }
-    return Collections.unmodifiableMap(keysMap);
+  static <T extends EnumWithName> Function<CharSequence, @Nullable T> computeIndex(T[] values, @Nullable T exclude) {
+    return PerfectHashIndex.forEnum(values, exclude)::get;
   }
 
-
   /**
-   * Сервисный метод для формирования кеша ключей
+   * Сервисный метод для формирования неизменяемого регистронезависимого индекса по русским и английским именам
    *
    * @param values Список элементов класса
    * @param <T>    Тип класса
-   * @return Кеш ключей
+   * @return Функция поиска элемента по имени, для неизвестного имени возвращает null
    */
-  static <T extends EnumWithName> Map<String, T> computeKeys(T[] values) {
-    Map<String, T> keysMap = new HashMap<>();
-    for (var element : values) {
-      keysMap.put(element.nameEn().toLowerCase(Locale.ROOT), element);
-      keysMap.put(element.nameRu().toLowerCase(Locale.ROOT), element);
-    }
-    return Collections.unmodifiableMap(keysMap);
+  static <T extends EnumWithName> Function<CharSequence, @Nullable T> computeIndex(T[] values) {
+    return computeIndex(values, null);
   }
 }
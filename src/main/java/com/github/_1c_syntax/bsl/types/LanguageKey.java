@@ -0,0 +1,130 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Реестр ключей языков мультиязычных строк.
+ * <p>
+ * Каждому ключу языка (ru, en, kk...) при регистрации присваивается небольшой целочисленный идентификатор.
+ * Ключи приводятся к нижнему регистру, поэтому "RU" и "ru" получают один идентификатор. Реестр общий
+ * для процесса, идентификаторы не переиспользуются.
+ */
+@UtilityClass
+public class LanguageKey {
+  /**
+   * Признак отсутствия ключа в реестре
+   */
+  public static final int NOT_FOUND = -1;
+
+  /**
+   * Идентификатор русского языка
+   */
+  public static final int RU = 0;
+
+  /**
+   * Идентификатор английского языка
+   */
+  public static final int EN = 1;
+
+  private static final CaseInsensitiveIndex<Integer> IDS = CaseInsensitiveIndex.create();
+  private static volatile String[] names = new String[0];
+
+  static {
+    register(ScriptVariant.RUSSIAN.shortName());
+    register(ScriptVariant.ENGLISH.shortName());
+  }
+
+  /**
+   * Возвращает идентификатор ключа языка, регистрируя ключ при первом обращении
+   *
+   * @param langKey Ключ языка
+   * @return Идентификатор
+   */
+  public static int register(String langKey) {
+    var id = IDS.get(langKey);
+    if (id != null) {
+      return id;
+    }
+    return registerNew(langKey);
+  }
+
+  /**
+   * Ищет идентификатор ключа языка без регистрации
+   *
+   * @param langKey Ключ языка
+   * @return Идентификатор, если ключ не зарегистрирован - то {@link #NOT_FOUND}
+   */
+  public static int find(CharSequence langKey) {
+    var id = IDS.get(langKey);
+    return id == null ? NOT_FOUND : id;
+  }
+
+  /**
+   * Возвращает идентификатор ключа языка для варианта языка синтаксиса
+   *
+   * @param scriptVariant Вариант языка
+   * @return Идентификатор, для неизвестного варианта - {@link #NOT_FOUND}
+   */
+  public static int of(ScriptVariant scriptVariant) {
+    return switch (scriptVariant) {
+      case RUSSIAN -> RU;
+      case ENGLISH -> EN;
+      case UNKNOWN -> NOT_FOUND;
+    };
+  }
+
+  /**
+   * Возвращает ключ языка (в нижнем регистре) по идентификатору
+   *
+   * @param id Идентификатор
+   * @return Ключ языка
+   * @throws IndexOutOfBoundsException если идентификатор не зарегистрирован
+   */
+  public static String get(int id) {
+    return names[id];
+  }
+
+  /**
+   * @return Количество зарегистрированных ключей
+   */
+  public static int size() {
+    return names.length;
+  }
+
+  private static synchronized int registerNew(String langKey) {
+    var existing = IDS.get(langKey);
+    if (existing != null) {
+      return existing;
+    }
+    var id = names.length;
+    var registered = Arrays.copyOf(names, id + 1);
+    registered[id] = langKey.toLowerCase(Locale.ROOT);
+    names = registered;
+    IDS.put(langKey, id);
+    return id;
+  }
+}
@@ -24,12 +24,10 @@ package com.github._1c_syntax.bsl.types;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
-import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.jspecify.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -167,7 +165,7 @@ public enum MDOType implements EnumWithName {
 
   UNKNOWN("", "", "", "");
 
-  private static final Map<String, MDOType> KEYS = computeKeys();
+  private static final PerfectHashIndex<MDOType> KEYS = computeKeys();
   private static final Set<MDOType> CHILD_TYPES = computeChildTypes();
 
   /**
@@ -222,7 +220,7 @@ public enum MDOType implements EnumWithName {
    * @return - Найденный тип
    */
   public static Optional<MDOType> fromValue(String name) {
-    return Optional.ofNullable(KEYS.get(name.toLowerCase(Locale.ROOT)));
+    return Optional.ofNullable(KEYS.get(name));
   }
 
   /**
@@ -233,21 +231,34 @@ public enum MDOType implements EnumWithName {
    * @return Найденное значение, если не найден - то UNKNOWN
    */
   public static MDOType valueByName(String string) {
-    return KEYS.getOrDefault(string.toLowerCase(Locale.ROOT), UNKNOWN);
+    return KEYS.getOrDefault(string, UNKNOWN);
   }
 
-  private static Map<String, MDOType> computeKeys() {
-    Map<String, MDOType> map = new CaseInsensitiveMap<>();
+  /**
+   * Возвращает MDOType по фрагменту строки без создания подстроки
+   *
+   * @param chars Последовательность символов
+   * @param start Начало фрагмента
+   * @param end   Конец фрагмента (не включая)
+   * @return Найденный тип либо null
+   */
+  @Nullable
+  static MDOType lookup(CharSequence chars, int start, int end) {
+    return KEYS.get(chars, start, end);
+  }
+
+  private static PerfectHashIndex<MDOType> computeKeys() {
+    CaseInsensitiveIndex<MDOType> map = CaseInsensitiveIndex.create(values().length * 4);
     for (var element : values()) {
       if (element == UNKNOWN) {
         continue;
       }
-      map.put(element.nameEn().toLowerCase(Locale.ROOT), element);
-      map.put(element.groupName().toLowerCase(Locale.ROOT), element);
-      map.put(element.nameRu().toLowerCase(Locale.ROOT), element);
-      map.put(element.groupNameRu().toLowerCase(Locale.ROOT), element);
+      map.put(element.nameEn(), element);
+      map.put(element.groupName(), element);
+      map.put(element.nameRu(), element);
+      map.put(element.groupNameRu(), element);
     }
-    return map;
+    return PerfectHashIndex.copyOf(map);
   }
 
   private static Set<MDOType> computeChildTypes() {
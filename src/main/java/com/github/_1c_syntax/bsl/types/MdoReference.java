@@ -21,73 +21,197 @@
  */
 package com.github._1c_syntax.bsl.types;
 
-import com.github._1c_syntax.utils.StringInterner;
-import lombok.EqualsAndHashCode;
-import lombok.ToString;
-import lombok.Value;
+import com.github._1c_syntax.bsl.cache.OffHeapStringPool;
+import lombok.Getter;
 import org.jspecify.annotations.Nullable;
 
-import java.util.Locale;
-import java.util.Map;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
 
 /**
- * Ссылка на объект в формате ВидОбъектаМетаданных.ИмяОбъекта
+ * Ссылка на объект в формате ВидОбъектаМетаданных.ИмяОбъекта.
+ * Экземпляры создаются и кэшируются {@link MdoReferenceRegistry}.
+ * <p>
+ * Ссылка хранит владельца, тип и имя элемента, поэтому общая часть полного имени дочерних элементов
+ * не дублируется. Строковые представления формируются по требованию.
  */
-@Value
-@EqualsAndHashCode(of = {"mdoRef"})
-@ToString(of = {"mdoRef"})
-public class MdoReference implements Comparable<MdoReference> {
+public final class MdoReference implements Comparable<MdoReference> {
   /**
    * Ссылка на пустую ссылку
    */
   public static final MdoReference EMPTY = new MdoReference(MDOType.UNKNOWN, "", "");
 
-  private static final String REF_SPLIT_REGEX = "\\.";
-  private static final Pattern REF_SPLIT_PATTERN = Pattern.compile(REF_SPLIT_REGEX);
-
-  private static final StringInterner stringInterner = new StringInterner();
+  private static final char REF_SEPARATOR = '.';
 
   /**
-   * Кэш всех ссылок
+   * Владелец элемента. Для объектов верхнего уровня не заполняется
    */
-  private static final Map<String, MdoReference> REFERENCES = new ConcurrentHashMap<>();
+  @Nullable
+  private final MdoReference owner;
 
   /**
    * Тип объекта метаданных
    */
-  MDOType type;
+  @Getter
+  private final MDOType type;
+
+  /**
+   * Имя элемента. Для ссылок, созданных по произвольному представлению, - представление целиком.
+   * Строка либо дескриптор строки из {@link OffHeapStringPool}
+   */
+  private final CharSequence name;
 
   /**
-   * Строковое представление ссылки
+   * Имя элемента на русском языке. Отличается от английского для стандартных реквизитов
    */
-  String mdoRef;
+  private final CharSequence nameRu;
 
   /**
-   * Строковое представление ссылки на русском языке
+   * Признак ссылки, созданной по произвольным строковым представлениям, которые не разбираются на части
    */
-  String mdoRefRu;
+  private final boolean verbatim;
+
+  /**
+   * Количество элементов в цепочке от объекта верхнего уровня до текущего элемента включительно
+   */
+  private final int depth;
+
+  private final int hash;
 
-  private MdoReference(MDOType type, String mdoRef, String mdoRefRu) {
+  MdoReference(@Nullable MdoReference owner, MDOType type, CharSequence name, CharSequence nameRu) {
+    this.owner = owner;
     this.type = type;
-    this.mdoRef = mdoRef;
-    this.mdoRefRu = mdoRefRu;
+    this.name = name;
+    this.nameRu = nameRu;
+    this.verbatim = false;
+    this.depth = owner == null ? 1 : owner.depth + 1;
+    this.hash = ReferenceKey.hash(owner, type, name, 0, name.length());
+  }
+
+  MdoReference(MDOType type, CharSequence mdoRef, CharSequence mdoRefRu) {
+    this.owner = null;
+    this.type = type;
+    this.name = mdoRef;
+    this.nameRu = mdoRefRu;
+    this.verbatim = true;
+    this.depth = 1;
+    this.hash = ReferenceKey.hash(null, null, mdoRef, 0, mdoRef.length());
+  }
+
+  /**
+   * Возвращает владельца элемента
+   *
+   * @return Ссылка на владельца либо пустая ссылка для объектов верхнего уровня
+   */
+  public MdoReference getOwner() {
+    return owner == null ? EMPTY : owner;
+  }
+
+  /**
+   * Возвращает цепочку ссылок от объекта верхнего уровня до текущего элемента включительно.
+   * Например, для {@code Catalog.Товары.TabularSection.Цены} - ссылки на справочник и табличную часть
+   *
+   * @return Неизменяемый список ссылок. Для пустой ссылки список пуст
+   */
+  public List<MdoReference> getParts() {
+    if (isEmpty()) {
+      return Collections.emptyList();
+    }
+    var parts = new ArrayList<MdoReference>();
+    for (var part = this; part != null; part = part.owner) {
+      parts.add(part);
+    }
+    Collections.reverse(parts);
+    return Collections.unmodifiableList(parts);
+  }
+
+  /**
+   * Возвращает имя элемента
+   *
+   * @return Имя элемента
+   */
+  public String getName() {
+    return name.toString();
+  }
+
+  /**
+   * Возвращает имя элемента на русском языке
+   *
+   * @return Имя элемента на русском языке
+   */
+  public String getNameRu() {
+    return nameRu.toString();
+  }
+
+  /**
+   * Возвращает имя элемента в зависимости от языка разработки
+   *
+   * @param scriptVariant Нужный язык разработки
+   * @return Имя элемента
+   */
+  public String getName(ScriptVariant scriptVariant) {
+    return nameChars(scriptVariant).toString();
+  }
+
+  /**
+   * Возвращает строковое представление ссылки. Строка формируется заново при каждом вызове,
+   * см. {@link #getMdoRef(ScriptVariant)}
+   *
+   * @return Строковое представление ссылки
+   */
+  public String getMdoRef() {
+    return getMdoRef(ScriptVariant.ENGLISH);
+  }
+
+  /**
+   * Возвращает строковое представление ссылки на русском языке. Строка формируется заново при каждом вызове,
+   * см. {@link #getMdoRef(ScriptVariant)}
+   *
+   * @return Строковое представление ссылки на русском языке
+   */
+  public String getMdoRefRu() {
+    return getMdoRef(ScriptVariant.RUSSIAN);
   }
 
   /**
-   * Возвращает строковое представление ссылки в зависимости от языка разработки
+   * Возвращает строковое представление ссылки в зависимости от языка разработки.
+   * <p>
+   * Представление не хранится в ссылке: при каждом вызове для ссылки на элемент собирается новая строка
+   * из имен владельцев. Для сравнения и поиска используйте {@link #equals(Object)}, {@link #compareTo}
+   * и методы реестра, для вывода - {@link #appendTo(Appendable, ScriptVariant)}
    *
    * @param scriptVariant Нужный язык разработки
    * @return Строковое представление ссылки
    */
   public String getMdoRef(ScriptVariant scriptVariant) {
-    if (scriptVariant == ScriptVariant.ENGLISH) {
-      return getMdoRef();
-    } else {
-      return getMdoRefRu();
+    if (verbatim) {
+      return getName(scriptVariant);
+    }
+    return appendTo(new StringBuilder(), scriptVariant).toString();
+  }
+
+  /**
+   * Дописывает строковое представление ссылки в буфер, не формируя промежуточных строк
+   *
+   * @param out           Буфер либо поток вывода
+   * @param scriptVariant Нужный язык разработки
+   * @param <T>           Тип буфера
+   * @return Переданный буфер
+   * @throws UncheckedIOException при ошибке записи в поток вывода
+   */
+  public <T extends Appendable> T appendTo(T out, ScriptVariant scriptVariant) {
+    try {
+      appendChars(out, scriptVariant);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
+    return out;
   }
 
   /**
@@ -100,34 +224,58 @@ public class MdoReference implements Comparable<MdoReference> {
   }
 
   /**
-   * Создает ссылку, сохраняя ее в кэш.
+   * Возвращает признак ссылки, созданной по произвольным строковым представлениям
+   *
+   * @return Признак произвольного представления
+   */
+  boolean isVerbatim() {
+    return verbatim;
+  }
+
+  /**
+   * Возвращает имя элемента без преобразования в строку
+   *
+   * @param scriptVariant Нужный язык разработки
+   * @return Строка либо дескриптор строки из пула
+   */
+  CharSequence nameChars(ScriptVariant scriptVariant) {
+    return scriptVariant == ScriptVariant.ENGLISH ? name : nameRu;
+  }
+
+  /**
+   * Возвращает владельца элемента без подстановки пустой ссылки
+   *
+   * @return Владелец либо null
+   */
+  @Nullable
+  MdoReference owner() {
+    return owner;
+  }
+
+  /**
+   * Создает ссылку, сохраняя ее в реестр по умолчанию.
    * Ответственность за корректность сформированных представлений ссылки ложится на вызывающую сторону
    *
    * @param mdoType  Тип метаданных
    * @param mdoRef   Строковая ссылка
    * @param mdoRefRu Строковая ссылка на русском языке
    * @return Ссылка на объект
+   * @see MdoReferenceRegistry#create(MDOType, String, String)
    */
   public static MdoReference create(MDOType mdoType, String mdoRef, String mdoRefRu) {
-    return getOrCompute(mdoType, mdoRef, mdoRefRu);
+    return MdoReferenceRegistry.getDefault().create(mdoType, mdoRef, mdoRefRu);
   }
 
   /**
-   * Создает ссылку, сохраняя ее в кэш
+   * Создает ссылку, сохраняя ее в реестр по умолчанию
    *
    * @param mdoType Тип метаданных
    * @param name    Имя объекта метаданных
    * @return Ссылка на объект
+   * @see MdoReferenceRegistry#create(MDOType, String)
    */
   public static MdoReference create(MDOType mdoType, String name) {
-    var mdoRef = stringInterner.intern(mdoType.nameEn() + "." + name);
-    var nameRu = name;
-    if (mdoType == MDOType.STANDARD_ATTRIBUTE) {
-      nameRu = StdAttributeNames.get(name).getRu();
-    }
-    var mdoRefRu = stringInterner.intern(mdoType.nameRu() + "." + nameRu);
-
-    return getOrCompute(mdoType, mdoRef, mdoRefRu);
+    return MdoReferenceRegistry.getDefault().create(mdoType, name);
   }
 
   /**
@@ -137,15 +285,12 @@ public class MdoReference implements Comparable<MdoReference> {
    * @param mdoType           Тип дочерней ссылки
    * @param name              Имя дочернего элемента
    * @return Ссылка на элемент
+   * @see MdoReferenceRegistry#create(MdoReference, MDOType, String)
    */
   public static MdoReference create(@Nullable MdoReference mdoReferenceOwner,
                                     MDOType mdoType,
                                     String name) {
-    var nameRu = name;
-    if (mdoType == MDOType.STANDARD_ATTRIBUTE) {
-      nameRu = StdAttributeNames.get(name).getRu();
-    }
-    return create(mdoReferenceOwner, mdoType, name, nameRu);
+    return MdoReferenceRegistry.getDefault().create(mdoReferenceOwner, mdoType, name);
   }
 
   /**
@@ -157,109 +302,187 @@ public class MdoReference implements Comparable<MdoReference> {
    * @param name              Имя дочернего элемента
    * @param nameRu            Имя дочернего элемента на русском
    * @return Ссылка на элемент
+   * @see MdoReferenceRegistry#create(MdoReference, MDOType, String, String)
    */
   public static MdoReference create(@Nullable MdoReference mdoReferenceOwner,
                                     MDOType mdoType,
                                     String name,
                                     String nameRu) {
-    if (mdoReferenceOwner == null || mdoReferenceOwner.isEmpty()) {
-      return create(mdoType, name);
-    } else {
-      var mdoRef = stringInterner.intern(mdoReferenceOwner.getMdoRef() + "." + mdoType.nameEn() + "." + name);
-      var mdoRefRu = stringInterner.intern(mdoReferenceOwner.getMdoRefRu() + "." + mdoType.nameRu() + "." + nameRu);
-
-      return getOrCompute(mdoType, mdoRef, mdoRefRu);
-    }
+    return MdoReferenceRegistry.getDefault().create(mdoReferenceOwner, mdoType, name, nameRu);
   }
 
   /**
-   * Создает ссылку, сохраняя ее в кэш
+   * Создает ссылку, сохраняя ее в реестр по умолчанию
    *
    * @param fullName Строковая ссылка на объект метаданных
    * @return Ссылка на объект
+   * @see MdoReferenceRegistry#create(CharSequence)
    */
   public static MdoReference create(String fullName) {
-    var nameParts = REF_SPLIT_PATTERN.split(fullName);
-    if (nameParts.length <= 1) {
-      throw new IllegalArgumentException("Incorrect full name " + fullName);
-    }
-
-    MdoReference ref = null;
-    var step = 2;
-    for (var i = 0; i < nameParts.length; i += step) {
-      var mdoType = MDOType.fromValue(nameParts[i]);
-      if (mdoType.isEmpty()) {
-        continue;
-      }
-      var mdoName = nameParts[i + 1];
-      if (ref == null) {
-        ref = create(mdoType.get(), mdoName);
-      } else {
-        var nameRu = mdoName;
-        if (mdoType.get() == MDOType.STANDARD_ATTRIBUTE) {
-          nameRu = StdAttributeNames.get(mdoName).getRu();
-          ref = create(ref, mdoType.get(), mdoName, nameRu);
-        } else {
-          ref = create(ref, mdoType.get(), mdoName);
-        }
-      }
-    }
-
-    if (ref == null) {
-      throw new IllegalArgumentException("Incorrect full name " + fullName);
-    }
+    return MdoReferenceRegistry.getDefault().create(fullName);
+  }
 
-    return ref;
+  /**
+   * Создание набора дочерних ссылок одного типа в реестре по умолчанию.
+   * Применяется при загрузке конфигурации, когда известны все дочерние элементы владельца
+   *
+   * @param mdoReferenceOwner Ссылка родитель
+   * @param mdoType           Тип дочерних ссылок
+   * @param names             Имена дочерних элементов
+   * @return Ссылки на элементы в порядке имен
+   * @see MdoReferenceRegistry#createChildren(MdoReference, MDOType, Collection)
+   */
+  public static List<MdoReference> createChildren(@Nullable MdoReference mdoReferenceOwner,
+                                                  MDOType mdoType,
+                                                  Collection<String> names) {
+    return MdoReferenceRegistry.getDefault().createChildren(mdoReferenceOwner, mdoType, names);
   }
 
   /**
-   * Выполняет поиск ссылки по имени, используя кэш прочитанных ранее
+   * Выполняет поиск ссылки по имени в реестре по умолчанию
    *
    * @param mdoRef Строковое представление ссылки
    * @return Optional-контейнер для ссылки
    */
   public static Optional<MdoReference> find(String mdoRef) {
-    return Optional.ofNullable(REFERENCES.get(mdoRef.toLowerCase(Locale.ROOT)));
+    return MdoReferenceRegistry.getDefault().find(mdoRef);
   }
 
   /**
-   * Возвращает найденную в кеше ссылку. Если ее нет, то вернет пустую
+   * Возвращает найденную в реестре по умолчанию ссылку. Если ее нет, то вернет пустую
    *
    * @param mdoRef Строковое представление ссылки
    * @return Найденная сслыка либо пустая, если ее нет
    */
   public static MdoReference get(String mdoRef) {
-    return REFERENCES.getOrDefault(mdoRef.toLowerCase(Locale.ROOT), MdoReference.EMPTY);
+    return MdoReferenceRegistry.getDefault().get(mdoRef);
   }
 
+  /**
+   * Сравнивает ссылки по типу, затем по строковому представлению на английском и на русском языках.
+   * Представления сравниваются по цепочкам элементов без формирования строк: общие владельцы
+   * пропускаются по ссылке, а у различающихся элементов сравниваются имя типа и имя элемента
+   */
   @Override
   public int compareTo(@Nullable MdoReference mdoReference) {
     if (mdoReference == null) {
       return 1;
-    }
-
-    if (this.equals(mdoReference)) {
+    } else if (this == mdoReference) {
       return 0;
     }
 
-    int typeComparison = this.type.compareTo(mdoReference.getType());
+    int typeComparison = type.compareTo(mdoReference.type);
     if (typeComparison != 0) {
       return typeComparison;
     }
 
-    int mdoRefComparison = this.mdoRef.compareTo(mdoReference.getMdoRef());
-    if (mdoRefComparison != 0) {
+    int mdoRefComparison = comparePath(this, mdoReference, ScriptVariant.ENGLISH);
+    if (mdoRefComparison != 0 || equals(mdoReference)) {
       return mdoRefComparison;
     }
 
-    return this.mdoRefRu.compareTo(mdoReference.getMdoRefRu());
+    return comparePath(this, mdoReference, ScriptVariant.RUSSIAN);
+  }
+
+  /**
+   * Ссылки равны, если совпадают их структуры: вид, английское имя элемента, признак ссылки с произвольным
+   * представлением и владелец. Строковые представления при сравнении не формируются.
+   * Ссылки с произвольным представлением не равны ссылкам на элементы, даже если их представления совпадают
+   */
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    return obj instanceof MdoReference other
+      && hash == other.hash
+      && type == other.type
+      && verbatim == other.verbatim
+      && CharSequence.compare(name, other.name) == 0
+      && Objects.equals(owner, other.owner);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return appendTo(new StringBuilder("MdoReference(mdoRef="), ScriptVariant.ENGLISH).append(')').toString();
+  }
+
+  /**
+   * Сравнивает ссылки по структуре без учета регистра имен
+   *
+   * @param left  Первая ссылка
+   * @param right Вторая ссылка
+   * @return Признак совпадения
+   */
+  static boolean equalsIgnoreCase(@Nullable MdoReference left, @Nullable MdoReference right) {
+    while (left != right) {
+      if (left == null || right == null
+        || left.hash != right.hash
+        || left.type != right.type
+        || left.verbatim != right.verbatim
+        || left.name.length() != right.name.length()
+        || !NameKey.regionEquals(left.name, 0, right.name, 0, left.name.length())) {
+        return false;
+      }
+      left = left.owner;
+      right = right.owner;
+    }
+    return true;
+  }
+
+  private static int comparePath(MdoReference left, MdoReference right, ScriptVariant scriptVariant) {
+    var leftPrefix = left;
+    while (leftPrefix.depth > right.depth) {
+      leftPrefix = Objects.requireNonNull(leftPrefix.owner);
+    }
+    var rightPrefix = right;
+    while (rightPrefix.depth > left.depth) {
+      rightPrefix = Objects.requireNonNull(rightPrefix.owner);
+    }
+    var result = compareChain(leftPrefix, rightPrefix, scriptVariant);
+    return result != 0 ? result : Integer.compare(left.depth, right.depth);
+  }
+
+  /**
+   * Сравнивает цепочки одинаковой длины, начиная с объекта верхнего уровня
+   */
+  private static int compareChain(@Nullable MdoReference left, @Nullable MdoReference right,
+                                  ScriptVariant scriptVariant) {
+    if (left == right || left == null || right == null) {
+      return 0;
+    }
+    var result = compareChain(left.owner, right.owner, scriptVariant);
+    return result != 0 ? result : compareElement(left, right, scriptVariant);
+  }
+
+  private static int compareElement(MdoReference left, MdoReference right, ScriptVariant scriptVariant) {
+    if (left.verbatim != right.verbatim) {
+      // редкий случай сравнения произвольного представления с элементом, строки формируются только здесь
+      return left.getMdoRef(scriptVariant).compareTo(right.getMdoRef(scriptVariant));
+    } else if (!left.verbatim && left.type != right.type) {
+      return scriptVariant == ScriptVariant.ENGLISH
+        ? left.type.nameEn().compareTo(right.type.nameEn())
+        : left.type.nameRu().compareTo(right.type.nameRu());
+    }
+    return CharSequence.compare(left.nameChars(scriptVariant), right.nameChars(scriptVariant));
   }
 
-  private static MdoReference getOrCompute(MDOType mdoType, String mdoRef, String mdoRefRu) {
-    var enKey = mdoRef.toLowerCase(Locale.ROOT);
-    var ruKey = mdoRefRu.toLowerCase(Locale.ROOT);
-    var result = REFERENCES.computeIfAbsent(enKey, key -> new MdoReference(mdoType, mdoRef, mdoRefRu));
-    REFERENCES.putIfAbsent(ruKey, result);
-    return result;
+  private void appendChars(Appendable out, ScriptVariant scriptVariant) throws IOException {
+    if (verbatim) {
+      out.append(nameChars(scriptVariant));
+      return;
+    }
+    if (owner != null) {
+      owner.appendChars(out, scriptVariant);
+      out.append(REF_SEPARATOR);
+    }
+    out.append(scriptVariant == ScriptVariant.ENGLISH ? type.nameEn() : type.nameRu())
+      .append(REF_SEPARATOR)
+      .append(nameChars(scriptVariant));
   }
 }
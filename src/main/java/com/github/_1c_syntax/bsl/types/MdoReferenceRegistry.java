@@ -0,0 +1,866 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import com.github._1c_syntax.bsl.cache.CacheMetrics;
+import com.github._1c_syntax.bsl.cache.CacheStatistics;
+import com.github._1c_syntax.bsl.cache.Interner;
+import com.github._1c_syntax.bsl.cache.OffHeapStringPool;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Реестр ссылок на объекты метаданных.
+ * <p>
+ * Реестр создается на конфигурацию (рабочую область) и закрывается после ее выгрузки, освобождая все
+ * накопленные ссылки. Статические методы {@link MdoReference} работают с реестром по умолчанию,
+ * который можно заменить методом {@link #install(MdoReferenceRegistry)}.
+ */
+public final class MdoReferenceRegistry implements AutoCloseable {
+
+  private static final char REF_SEPARATOR = '.';
+
+  /**
+   * Реестр, используемый статическими методами {@link MdoReference}
+   */
+  private static volatile MdoReferenceRegistry defaultRegistry = new MdoReferenceRegistry(Retention.STRONG);
+
+  /**
+   * Оценка собственного размера ссылки: объект ссылки, два ключа и два узла таблицы
+   */
+  private static final long REFERENCE_BYTES = 40 + 2 * 40 + 2 * 40;
+
+  /**
+   * Показатели реестров. Обращения учитываются по всем реестрам, размер - по реестру по умолчанию.
+   * Размер берется из счетчиков, поэтому снятие показателей не обходит таблицу
+   */
+  private static final CacheMetrics METRICS = CacheStatistics.register("MdoReference",
+    () -> getDefault().storedCount.sum(), () -> getDefault().storedBytes.sum());
+
+  /**
+   * Способ удержания ссылок реестром
+   */
+  public enum Retention {
+    /**
+     * Ссылки хранятся до очистки или закрытия реестра
+     */
+    STRONG,
+    /**
+     * Ссылки хранятся, пока на них есть сильные ссылки извне
+     */
+    WEAK,
+    /**
+     * Ссылки хранятся, пока сборщику мусора хватает памяти
+     */
+    SOFT
+  }
+
+  /**
+   * Способ удержания ссылок
+   */
+  private final Retention retention;
+
+  /**
+   * Кэш ссылок по ключам владелец-тип-имя. Значение - ссылка либо ее обертка {@link RetainedReference}
+   */
+  private final Map<ReferenceKey, Object> references;
+
+  private final ReferenceQueue<MdoReference> queue = new ReferenceQueue<>();
+
+  /**
+   * Количество и оценка размера помещенных в реестр ссылок для показателей. Значения приближенные:
+   * ссылки, собранные сборщиком мусора, вычитаются при очередной очистке устаревших элементов
+   */
+  private final LongAdder storedCount = new LongAdder();
+  private final LongAdder storedBytes = new LongAdder();
+
+  /**
+   * Интернер имен элементов. Для нестрогих режимов не используется, чтобы не удерживать строки.
+   * Не заменяется при очистке реестра, поэтому потоки, создающие ссылки, всегда видят действующий интернер
+   */
+  @Nullable
+  private volatile Interner<String> stringInterner;
+
+  /**
+   * Пул строк вне кучи для имен элементов. Если задан, интернер строк не используется
+   */
+  @Nullable
+  private final OffHeapStringPool stringPool;
+
+  private volatile boolean closed;
+
+  private MdoReferenceRegistry(Retention retention) {
+    this(retention, 16, null);
+  }
+
+  private MdoReferenceRegistry(Retention retention, int expectedSize, @Nullable OffHeapStringPool stringPool) {
+    this.retention = retention;
+    this.references = new ConcurrentHashMap<>(Math.max(16, expectedSize));
+    this.stringPool = stringPool;
+    this.stringInterner = retention == Retention.STRONG && stringPool == null ? new Interner<>() : null;
+  }
+
+  /**
+   * Создает новый реестр, удерживающий ссылки до закрытия
+   *
+   * @return Новый реестр
+   */
+  public static MdoReferenceRegistry create() {
+    return create(Retention.STRONG);
+  }
+
+  /**
+   * Создает новый реестр с указанным способом удержания ссылок
+   *
+   * @param retention Способ удержания ссылок
+   * @return Новый реестр
+   */
+  public static MdoReferenceRegistry create(Retention retention) {
+    return new MdoReferenceRegistry(retention);
+  }
+
+  /**
+   * Создает новый реестр, заранее рассчитанный на указанное количество ссылок.
+   * Позволяет избежать перестроения таблицы при загрузке большой конфигурации
+   *
+   * @param retention    Способ удержания ссылок
+   * @param expectedSize Ожидаемое количество ссылок
+   * @return Новый реестр
+   */
+  public static MdoReferenceRegistry create(Retention retention, int expectedSize) {
+    return new MdoReferenceRegistry(retention, expectedSize, null);
+  }
+
+  /**
+   * Создает новый реестр, хранящий имена элементов вне кучи в переданном пуле строк.
+   * Пул может разделяться несколькими реестрами. Строки из пула не удаляются при очистке
+   * и закрытии реестра, память освобождается вместе с пулом
+   *
+   * @param retention    Способ удержания ссылок
+   * @param expectedSize Ожидаемое количество ссылок
+   * @param stringPool   Пул строк
+   * @return Новый реестр
+   */
+  public static MdoReferenceRegistry create(Retention retention, int expectedSize, OffHeapStringPool stringPool) {
+    return new MdoReferenceRegistry(retention, expectedSize, stringPool);
+  }
+
+  /**
+   * Возвращает реестр, используемый статическими методами {@link MdoReference}
+   *
+   * @return Реестр по умолчанию
+   */
+  public static MdoReferenceRegistry getDefault() {
+    return defaultRegistry;
+  }
+
+  /**
+   * Устанавливает реестр по умолчанию
+   *
+   * @param registry Новый реестр по умолчанию
+   * @return Ранее установленный реестр
+   */
+  public static synchronized MdoReferenceRegistry install(MdoReferenceRegistry registry) {
+    if (registry.isClosed()) {
+      throw new IllegalStateException("Registry is closed");
+    }
+    var previous = defaultRegistry;
+    defaultRegistry = registry;
+    return previous;
+  }
+
+  /**
+   * Возвращает способ удержания ссылок реестром
+   *
+   * @return Способ удержания
+   */
+  public Retention getRetention() {
+    return retention;
+  }
+
+  /**
+   * Возвращает признак закрытия реестра
+   *
+   * @return Признак закрытия
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Возвращает количество ссылок, хранящихся в реестре
+   *
+   * @return Количество ссылок
+   */
+  public int size() {
+    expungeStaleEntries();
+    return (int) references.values().stream()
+      .map(MdoReferenceRegistry::unwrap)
+      .filter(Objects::nonNull)
+      .distinct()
+      .count();
+  }
+
+  /**
+   * Очищает реестр. Может выполняться параллельно с созданием ссылок: ссылки, созданные во время очистки,
+   * могут остаться в реестре
+   */
+  public void clear() {
+    references.clear();
+    var interner = stringInterner;
+    if (interner != null) {
+      interner.clear();
+    }
+    resetCounters();
+  }
+
+  /**
+   * Закрывает реестр, освобождая все ссылки. Дальнейшее использование реестра недопустимо.
+   * Если реестр был установлен по умолчанию, его место занимает новый пустой реестр
+   */
+  @Override
+  public void close() {
+    synchronized (MdoReferenceRegistry.class) {
+      closed = true;
+      if (defaultRegistry == this) {
+        defaultRegistry = new MdoReferenceRegistry(Retention.STRONG);
+      }
+    }
+    references.clear();
+    stringInterner = null;
+    resetCounters();
+  }
+
+  /**
+   * Создает ссылку, сохраняя ее в реестр.
+   * Ответственность за корректность сформированных представлений ссылки ложится на вызывающую сторону
+   *
+   * @param mdoType  Тип метаданных
+   * @param mdoRef   Строковая ссылка
+   * @param mdoRefRu Строковая ссылка на русском языке
+   * @return Ссылка на объект
+   */
+  public MdoReference create(MDOType mdoType, String mdoRef, String mdoRefRu) {
+    var reference = createFromParts(mdoType, mdoRef, mdoRefRu);
+    return reference == null ? getOrComputeVerbatim(mdoType, mdoRef, mdoRefRu) : reference;
+  }
+
+  /**
+   * Создает ссылку, сохраняя ее в реестр
+   *
+   * @param mdoType Тип метаданных
+   * @param name    Имя объекта метаданных
+   * @return Ссылка на объект
+   */
+  public MdoReference create(MDOType mdoType, String name) {
+    return create(null, mdoType, name);
+  }
+
+  /**
+   * Создание дочерней ссылки
+   *
+   * @param mdoReferenceOwner Ссылка родитель
+   * @param mdoType           Тип дочерней ссылки
+   * @param name              Имя дочернего элемента
+   * @return Ссылка на элемент
+   */
+  public MdoReference create(@Nullable MdoReference mdoReferenceOwner, MDOType mdoType, String name) {
+    if (mdoType == MDOType.STANDARD_ATTRIBUTE) {
+      // имя известного стандартного реквизита может быть передано на любом языке
+      var stdName = StdAttributeNames.get(name);
+      return create(mdoReferenceOwner, mdoType, stdName.isEmpty() ? name : stdName.getEn(), stdName.getRu());
+    }
+    return create(mdoReferenceOwner, mdoType, name, name);
+  }
+
+  /**
+   * Создание дочерней ссылки с разным представлением имени на русском и английском языках.
+   * Применяется для стандартных реквизитов
+   *
+   * @param mdoReferenceOwner Ссылка родитель
+   * @param mdoType           Тип дочерней ссылки
+   * @param name              Имя дочернего элемента
+   * @param nameRu            Имя дочернего элемента на русском
+   * @return Ссылка на элемент
+   */
+  public MdoReference create(@Nullable MdoReference mdoReferenceOwner,
+                             MDOType mdoType,
+                             String name,
+                             String nameRu) {
+    var owner = mdoReferenceOwner == null || mdoReferenceOwner.isEmpty() ? null : mdoReferenceOwner;
+    return getOrCompute(owner, mdoType, name, nameRu);
+  }
+
+  /**
+   * Создание набора дочерних ссылок одного типа.
+   * Общая часть представлений (владелец и тип) формируется один раз, для уже существующих ссылок
+   * строковые представления не создаются
+   *
+   * @param mdoReferenceOwner Ссылка родитель
+   * @param mdoType           Тип дочерних ссылок
+   * @param names             Имена дочерних элементов
+   * @return Ссылки на элементы в порядке имен
+   */
+  public List<MdoReference> createChildren(@Nullable MdoReference mdoReferenceOwner,
+                                           MDOType mdoType,
+                                           Collection<String> names) {
+    if (closed) {
+      throw new IllegalStateException("Registry is closed");
+    }
+
+    expungeStaleEntries();
+
+    var owner = mdoReferenceOwner == null || mdoReferenceOwner.isEmpty() ? null : canonical(mdoReferenceOwner);
+    var result = new MdoReference[names.size()];
+    var index = 0;
+    for (var name : names) {
+      var reference = lookupChild(owner, mdoType, name, 0, name.length());
+      if (reference != null) {
+        METRICS.recordHit();
+      } else {
+        METRICS.recordMiss();
+        reference = insertChild(owner, mdoType, name);
+      }
+      result[index++] = reference;
+    }
+    return List.of(result);
+  }
+
+  /**
+   * Создает ссылку, сохраняя ее в реестр.
+   * Сначала выполняется поиск всей строки среди ранее созданных ссылок, разбор на части производится
+   * только при его неудаче
+   *
+   * @param fullName Строковая ссылка на объект метаданных
+   * @return Ссылка на объект
+   */
+  public MdoReference create(CharSequence fullName) {
+    var cached = lookup(fullName);
+    if (cached != null) {
+      METRICS.recordHit();
+      return cached;
+    }
+
+    MdoReference ref = null;
+    var length = fullName.length();
+    var typeStart = 0;
+    while (typeStart < length) {
+      var typeEnd = indexOfSeparator(fullName, typeStart, length);
+      var nameStart = typeEnd + 1;
+      var nameEnd = indexOfSeparator(fullName, nameStart, length);
+      var nextTypeStart = nameEnd + 1;
+
+      var mdoType = MDOType.lookup(fullName, typeStart, typeEnd);
+      if (mdoType != null) {
+        if (typeEnd == length) {
+          throw new IllegalArgumentException("Incorrect full name " + fullName);
+        }
+        var child = lookupChild(ref, mdoType, fullName, nameStart, nameEnd);
+        if (child != null) {
+          ref = child;
+        } else {
+          ref = create(ref, mdoType, fullName.subSequence(nameStart, nameEnd).toString());
+        }
+      }
+      typeStart = nextTypeStart;
+    }
+
+    if (ref == null) {
+      throw new IllegalArgumentException("Incorrect full name " + fullName);
+    }
+
+    return ref;
+  }
+
+  /**
+   * Выполняет поиск ссылки по имени среди ранее созданных
+   *
+   * @param mdoRef Строковое представление ссылки
+   * @return Optional-контейнер для ссылки
+   */
+  public Optional<MdoReference> find(CharSequence mdoRef) {
+    return Optional.ofNullable(recordLookup(lookup(mdoRef)));
+  }
+
+  /**
+   * Возвращает найденную в реестре ссылку. Если ее нет, то вернет пустую
+   *
+   * @param mdoRef Строковое представление ссылки
+   * @return Найденная ссылка либо пустая, если ее нет
+   */
+  public MdoReference get(CharSequence mdoRef) {
+    var result = recordLookup(lookup(mdoRef));
+    return result == null ? MdoReference.EMPTY : result;
+  }
+
+  /**
+   * Восстанавливает ссылку из готовых частей без разбора строк. Применяется при чтении снимка реестра
+   *
+   * @param owner    Владелец, уже восстановленный в этом реестре
+   * @param mdoType  Тип метаданных
+   * @param name     Имя элемента либо английское представление для произвольной ссылки
+   * @param nameRu   Русское имя элемента либо русское представление для произвольной ссылки
+   * @param verbatim Признак ссылки с произвольным представлением
+   * @return Ссылка на элемент
+   * @see RegistrySnapshot
+   */
+  MdoReference restore(@Nullable MdoReference owner, MDOType mdoType, CharSequence name, CharSequence nameRu,
+                       boolean verbatim) {
+    if (verbatim) {
+      return getOrComputeVerbatim(mdoType, name, nameRu);
+    }
+    return getOrCompute(owner, mdoType, name, nameRu);
+  }
+
+  /**
+   * Возвращает все ссылки, хранящиеся в реестре
+   *
+   * @return Ссылки в произвольном порядке
+   */
+  List<MdoReference> references() {
+    expungeStaleEntries();
+    return references.values().stream()
+      .map(MdoReferenceRegistry::unwrap)
+      .filter(Objects::nonNull)
+      .distinct()
+      .toList();
+  }
+
+  private MdoReference getOrCompute(@Nullable MdoReference owner, MDOType mdoType,
+                                    CharSequence name, CharSequence nameRu) {
+    if (closed) {
+      throw new IllegalStateException("Registry is closed");
+    }
+    expungeStaleEntries();
+
+    var result = lookupChild(owner, mdoType, name, 0, name.length());
+    if (result != null) {
+      METRICS.recordHit();
+      return result;
+    }
+    METRICS.recordMiss();
+
+    return insert(owner == null ? null : canonical(owner), mdoType, name, nameRu);
+  }
+
+  /**
+   * Помещает в реестр отсутствующий в нем дочерний элемент владельца, уже хранящегося в этом реестре.
+   * Имя стандартного реквизита может быть передано на любом языке
+   */
+  private MdoReference insertChild(@Nullable MdoReference canonicalOwner, MDOType mdoType, String name) {
+    if (mdoType == MDOType.STANDARD_ATTRIBUTE) {
+      var stdName = StdAttributeNames.get(name);
+      return insert(canonicalOwner, mdoType, stdName.isEmpty() ? name : stdName.getEn(), stdName.getRu());
+    }
+    return insert(canonicalOwner, mdoType, name, name);
+  }
+
+  /**
+   * Создает и помещает в реестр ссылку, отсутствующую в нем. Владелец должен храниться в этом реестре
+   */
+  private MdoReference insert(@Nullable MdoReference canonicalOwner, MDOType mdoType,
+                              CharSequence name, CharSequence nameRu) {
+    var internedName = intern(name);
+    var internedNameRu = CharSequence.compare(nameRu, name) == 0 ? internedName : intern(nameRu);
+    var created = new MdoReference(canonicalOwner, mdoType, internedName, internedNameRu);
+    // русское и английское имена стандартного реквизита дают один и тот же ключ
+    var key = ReferenceKey.of(canonicalOwner, mdoType, internedName);
+    var alias = internedNameRu == internedName ? key : ReferenceKey.of(canonicalOwner, mdoType, internedNameRu);
+    return store(created, key, alias);
+  }
+
+  private MdoReference getOrComputeVerbatim(MDOType mdoType, CharSequence mdoRef, CharSequence mdoRefRu) {
+    if (closed) {
+      throw new IllegalStateException("Registry is closed");
+    }
+    expungeStaleEntries();
+
+    var result = lookupChild(null, null, mdoRef, 0, mdoRef.length());
+    if (result != null) {
+      METRICS.recordHit();
+      return result;
+    }
+    METRICS.recordMiss();
+
+    var internedMdoRef = intern(mdoRef);
+    var internedMdoRefRu = intern(mdoRefRu);
+    var created = new MdoReference(mdoType, internedMdoRef, internedMdoRefRu);
+    return store(created, ReferenceKey.of(null, null, internedMdoRef), ReferenceKey.of(null, null, internedMdoRefRu));
+  }
+
+  /**
+   * Помещает новую ссылку в реестр. Если русский ключ совпадает с английским, выполняется одна вставка,
+   * так что оба представления связываются со ссылкой атомарно. Отдельная вставка русского ключа нужна
+   * только для ссылок с явно заданными различающимися представлениями
+   *
+   * @return Новая ссылка либо ссылка, помещенная другим потоком раньше
+   */
+  private MdoReference store(MdoReference created, ReferenceKey enKey, ReferenceKey ruKey) {
+    Object current = retain(created, enKey, ruKey);
+    var result = created;
+    var existing = putIfAbsentOrStale(enKey, current);
+    if (existing != null) {
+      METRICS.recordContention();
+      current = existing.holder;
+      result = existing.reference;
+    } else {
+      storedCount.increment();
+      storedBytes.add(current instanceof RetainedReference retained ? retained.bytes() : approximateBytes(created));
+    }
+    if (!enKey.equals(ruKey)) {
+      putIfAbsentOrStale(ruKey, current);
+    }
+    return result;
+  }
+
+  /**
+   * Создает ссылку по явно переданным представлениям, если они разбираются на части в формате
+   * ВидОбъекта.Имя[.ВидЭлемента.Имя...] с одинаковыми видами в обоих представлениях.
+   * Ссылки на владельцев создаются только после проверки представлений целиком
+   *
+   * @return Ссылка либо null, если представления не разбираются
+   */
+  @Nullable
+  private MdoReference createFromParts(MDOType mdoType, String mdoRef, String mdoRefRu) {
+    var bounds = new ArrayList<int[]>();
+    var types = new ArrayList<MDOType>();
+    var typeStart = 0;
+    var typeStartRu = 0;
+    while (typeStart < mdoRef.length() || typeStartRu < mdoRefRu.length()) {
+      var part = partBounds(mdoRef, typeStart);
+      var partRu = partBounds(mdoRefRu, typeStartRu);
+      if (part == null || partRu == null) {
+        return null;
+      }
+      var partType = typeOf(mdoRef, typeStart, part[0]);
+      if (partType == null || partType != typeOf(mdoRefRu, typeStartRu, partRu[0])) {
+        return null;
+      }
+      types.add(partType);
+      bounds.add(new int[]{part[0] + 1, part[1], partRu[0] + 1, partRu[1]});
+      typeStart = part[1] + 1;
+      typeStartRu = partRu[1] + 1;
+    }
+    if (types.isEmpty() || types.getLast() != mdoType) {
+      return null;
+    }
+
+    MdoReference ref = null;
+    for (var i = 0; i < types.size(); i++) {
+      var part = bounds.get(i);
+      ref = getOrCompute(ref, types.get(i),
+        mdoRef.substring(part[0], part[1]), mdoRefRu.substring(part[2], part[3]));
+    }
+    return ref;
+  }
+
+  /**
+   * Находит границы части Вид.Имя, начинающейся с указанной позиции
+   *
+   * @return Конец вида и конец имени либо null, если часть неполная
+   */
+  private static int @Nullable [] partBounds(String chars, int typeStart) {
+    var length = chars.length();
+    if (typeStart >= length) {
+      return null;
+    }
+    var typeEnd = indexOfSeparator(chars, typeStart, length);
+    if (typeEnd >= length - 1) {
+      return null;
+    }
+    var nameEnd = indexOfSeparator(chars, typeEnd + 1, length);
+    if (nameEnd == typeEnd + 1 || nameEnd == length - 1) {
+      return null;
+    }
+    return new int[]{typeEnd, nameEnd};
+  }
+
+  /**
+   * Возвращает экземпляр ссылки, хранящийся в этом реестре. Ссылка, полученная из другого реестра
+   * или до очистки, добавляется в реестр вместе с владельцами
+   */
+  private MdoReference canonical(MdoReference reference) {
+    if (reference.isVerbatim()) {
+      return getOrComputeVerbatim(reference.getType(),
+        reference.nameChars(ScriptVariant.ENGLISH), reference.nameChars(ScriptVariant.RUSSIAN));
+    }
+    return getOrCompute(reference.owner(), reference.getType(),
+      reference.nameChars(ScriptVariant.ENGLISH), reference.nameChars(ScriptVariant.RUSSIAN));
+  }
+
+  /**
+   * Помещает значение по ключу, если ключ отсутствует либо указывает на собранную сборщиком мусора ссылку
+   *
+   * @return Уже существующее живое значение, если оно есть
+   */
+  @Nullable
+  private Existing putIfAbsentOrStale(ReferenceKey key, Object holder) {
+    var current = references.putIfAbsent(key, holder);
+    while (current != null) {
+      var reference = unwrap(current);
+      if (reference != null) {
+        return new Existing(current, reference);
+      }
+      if (references.replace(key, current, holder)) {
+        return null;
+      }
+      current = references.putIfAbsent(key, holder);
+    }
+    return null;
+  }
+
+  private Object retain(MdoReference reference, ReferenceKey enKey, ReferenceKey ruKey) {
+    return switch (retention) {
+      case STRONG -> reference;
+      case WEAK -> new WeakRetainedReference(reference, queue, enKey, ruKey);
+      case SOFT -> new SoftRetainedReference(reference, queue, enKey, ruKey);
+    };
+  }
+
+  /**
+   * Выполняет поиск ссылки по полному имени без создания промежуточных объектов, спускаясь от объекта
+   * верхнего уровня по частям имени. Виды должны быть указаны в единственном числе
+   */
+  @Nullable
+  private MdoReference lookup(CharSequence chars) {
+    var length = chars.length();
+    var probe = ReferenceKey.probe();
+    try {
+      MdoReference ref = null;
+      var typeStart = 0;
+      while (typeStart < length) {
+        var typeEnd = indexOfSeparator(chars, typeStart, length);
+        if (typeEnd == length) {
+          ref = null;
+          break;
+        }
+        var mdoType = typeOf(chars, typeStart, typeEnd);
+        var nameEnd = indexOfSeparator(chars, typeEnd + 1, length);
+        ref = mdoType == null ? null : unwrap(references.get(probe.reset(ref, mdoType, chars, typeEnd + 1, nameEnd)));
+        if (ref == null || nameEnd == length) {
+          break;
+        }
+        typeStart = nameEnd + 1;
+        if (typeStart == length) {
+          ref = null;
+        }
+      }
+      return ref == null ? unwrap(references.get(probe.reset(null, null, chars, 0, length))) : ref;
+    } finally {
+      probe.release();
+    }
+  }
+
+  /**
+   * Выполняет поиск дочернего элемента владельца по фрагменту строки с именем
+   */
+  @Nullable
+  private MdoReference lookupChild(@Nullable MdoReference owner, @Nullable MDOType mdoType,
+                                   CharSequence chars, int start, int end) {
+    var probe = ReferenceKey.probe(owner, mdoType, chars, start, end);
+    try {
+      return unwrap(references.get(probe));
+    } finally {
+      probe.release();
+    }
+  }
+
+  /**
+   * Определяет вид по фрагменту строки. Допускаются только имена видов в единственном числе,
+   * как в строковых представлениях ссылок
+   */
+  @Nullable
+  private static MDOType typeOf(CharSequence chars, int start, int end) {
+    var mdoType = MDOType.lookup(chars, start, end);
+    if (mdoType == null || !(isRegion(chars, start, end, mdoType.nameEn())
+      || isRegion(chars, start, end, mdoType.nameRu()))) {
+      return null;
+    }
+    return mdoType;
+  }
+
+  private static boolean isRegion(CharSequence chars, int start, int end, String value) {
+    return end - start == value.length() && NameKey.regionEquals(chars, start, value, 0, value.length());
+  }
+
+  @Nullable
+  private static MdoReference recordLookup(@Nullable MdoReference reference) {
+    if (reference == null) {
+      METRICS.recordMiss();
+    } else {
+      METRICS.recordHit();
+    }
+    return reference;
+  }
+
+  /**
+   * Оценивает объем памяти, удерживаемой реестром для ссылки: сама ссылка, ее ключи и имя элемента
+   */
+  private static long approximateBytes(MdoReference reference) {
+    var name = reference.nameChars(ScriptVariant.ENGLISH);
+    var nameRu = reference.nameChars(ScriptVariant.RUSSIAN);
+    // русское имя обычно тот же экземпляр строки, что и английское
+    return REFERENCE_BYTES + CacheStatistics.approximateBytes(name)
+      + (nameRu == name ? 0 : CacheStatistics.approximateBytes(nameRu));
+  }
+
+  private static int indexOfSeparator(CharSequence chars, int from, int length) {
+    for (var i = from; i < length; i++) {
+      if (chars.charAt(i) == REF_SEPARATOR) {
+        return i;
+      }
+    }
+    return length;
+  }
+
+  private CharSequence intern(CharSequence value) {
+    if (stringPool != null) {
+      return stringPool.intern(value);
+    }
+    var interner = stringInterner;
+    var string = value.toString();
+    return interner == null ? string : interner.intern(string);
+  }
+
+  private void expungeStaleEntries() {
+    if (retention == Retention.STRONG) {
+      return;
+    }
+    Reference<? extends MdoReference> stale;
+    while ((stale = queue.poll()) != null) {
+      var retained = (RetainedReference) stale;
+      references.remove(retained.enKey(), retained);
+      references.remove(retained.ruKey(), retained);
+      storedCount.decrement();
+      storedBytes.add(-retained.bytes());
+    }
+  }
+
+  /**
+   * Сбрасывает счетчики после удаления всех ссылок. Устаревшие элементы очереди вычитаются до сброса
+   */
+  private void resetCounters() {
+    expungeStaleEntries();
+    storedCount.reset();
+    storedBytes.reset();
+  }
+
+  @Nullable
+  private static MdoReference unwrap(@Nullable Object holder) {
+    if (holder instanceof RetainedReference retained) {
+      return retained.get();
+    }
+    return (MdoReference) holder;
+  }
+
+  private record Existing(Object holder, MdoReference reference) {
+  }
+
+  /**
+   * Обертка над ссылкой для нестрогих режимов удержания, помнящая свои ключи в реестре
+   */
+  private interface RetainedReference {
+    @Nullable
+    MdoReference get();
+
+    ReferenceKey enKey();
+
+    ReferenceKey ruKey();
+
+    /**
+     * @return Оценка размера ссылки, учтенная в счетчиках реестра
+     */
+    long bytes();
+  }
+
+  private static final class WeakRetainedReference extends WeakReference<MdoReference>
+    implements RetainedReference {
+    private final ReferenceKey enKey;
+    private final ReferenceKey ruKey;
+    private final long bytes;
+
+    private WeakRetainedReference(MdoReference referent, ReferenceQueue<MdoReference> queue,
+                                  ReferenceKey enKey, ReferenceKey ruKey) {
+      super(referent, queue);
+      this.enKey = enKey;
+      this.ruKey = ruKey;
+      this.bytes = approximateBytes(referent);
+    }
+
+    @Override
+    public long bytes() {
+      return bytes;
+    }
+
+    @Override
+    public ReferenceKey enKey() {
+      return enKey;
+    }
+
+    @Override
+    public ReferenceKey ruKey() {
+      return ruKey;
+    }
+  }
+
+  private static final class SoftRetainedReference extends SoftReference<MdoReference>
+    implements RetainedReference {
+    private final ReferenceKey enKey;
+    private final ReferenceKey ruKey;
+    private final long bytes;
+
+    private SoftRetainedReference(MdoReference referent, ReferenceQueue<MdoReference> queue,
+                                  ReferenceKey enKey, ReferenceKey ruKey) {
+      super(referent, queue);
+      this.enKey = enKey;
+      this.ruKey = ruKey;
+      this.bytes = approximateBytes(referent);
+    }
+
+    @Override
+    public long bytes() {
+      return bytes;
+    }
+
+    @Override
+    public ReferenceKey enKey() {
+      return enKey;
+    }
+
+    @Override
+    public ReferenceKey ruKey() {
+      return ruKey;
+    }
+  }
+}
@@ -21,53 +21,53 @@
  */
 package com.github._1c_syntax.bsl.types;
 
-import com.github._1c_syntax.utils.GenericInterner;
-import com.github._1c_syntax.utils.StringInterner;
-import edu.umd.cs.findbugs.annotations.Nullable;
+import com.github._1c_syntax.bsl.cache.Interner;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.Value;
+import org.jspecify.annotations.Nullable;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
- * Используется для хранения текстовой строки на разных языках
+ * Используется для хранения текстовой строки на разных языках.
+ * <p>
+ * Содержимое хранится в двух параллельных массивах (идентификаторы языков из {@link LanguageKey} и значения),
+ * упорядоченных по ключу языка и значению при создании. Поэтому поиск по языку - это просмотр нескольких
+ * целых чисел, а сравнение строк не требует сортировки и создания объектов
  */
-@Value
 @EqualsAndHashCode
-public class MultiLanguageString implements Comparable<MultiLanguageString> {
+public final class MultiLanguageString implements Comparable<MultiLanguageString> {
 
   /**
    * Ссылка на пустой элемент
    */
-  public static final MultiLanguageString EMPTY = new MultiLanguageString();
-  private static final GenericInterner<MultiLanguageString> interner = new GenericInterner<>();
+  public static final MultiLanguageString EMPTY = new MultiLanguageString(new int[0], new String[0]);
+  private static final Interner<MultiLanguageString> interner = new Interner<>("MultiLanguageString", 72);
 
   /**
-   * Содержимое описания для каждого языка
+   * Идентификаторы ключей языков, упорядоченные вместе со значениями
    */
-  Set<Entry> content;
+  private final int[] langIds;
 
-  private MultiLanguageString() {
-    content = Collections.emptySet();
-  }
-
-  private MultiLanguageString(String langKey, String value) {
-    this(Set.of(Entry.create(langKey, value)));
-  }
+  /**
+   * Значения для соответствующих ключей языков
+   */
+  private final String[] values;
 
-  private MultiLanguageString(MultiLanguageString first, MultiLanguageString second) {
-    var fullContent = new HashSet<>(first.getContent());
-    fullContent.addAll(second.getContent());
-    content = Collections.unmodifiableSet(fullContent);
-  }
+  /**
+   * Содержимое в виде множества элементов, создается при первом обращении
+   */
+  @EqualsAndHashCode.Exclude
+  @Nullable
+  private Set<Entry> content;
 
-  private MultiLanguageString(Set<Entry> content) {
-    this.content = Set.copyOf(content);
+  private MultiLanguageString(int[] langIds, String[] values) {
+    this.langIds = langIds;
+    this.values = values;
   }
 
   /**
@@ -84,22 +84,26 @@ public class MultiLanguageString implements Comparable<MultiLanguageString> {
     } else if (strings.size() == 1) {
       return strings.getFirst();
     } else {
-      Set<Entry> content = new HashSet<>();
-      strings.forEach(string -> content.addAll(string.getContent()));
-      return new MultiLanguageString(content).intern();
+      var result = strings.getFirst();
+      for (var i = 1; i < strings.size(); i++) {
+        result = merge(result, strings.get(i));
+      }
+      return result.intern();
     }
   }
 
   public static MultiLanguageString create(Set<Entry> langContent) {
-    return new MultiLanguageString(langContent).intern();
+    return of(langContent.toArray(new Entry[0])).intern();
   }
 
   public static MultiLanguageString create(MultiLanguageString first, MultiLanguageString second) {
-    return new MultiLanguageString(first, second).intern();
+    return merge(first, second).intern();
   }
 
   public static MultiLanguageString create(String langKey, String value) {
-    return new MultiLanguageString(langKey, value).intern();
+    return new MultiLanguageString(
+      new int[]{LanguageKey.register(langKey)},
+      new String[]{Entry.stringInterner.intern(value)}).intern();
   }
 
   /**
@@ -109,23 +113,81 @@ public class MultiLanguageString implements Comparable<MultiLanguageString> {
    * @return Содержимое для указанного языка
    */
   public String get(String lang) {
-    return content.stream()
-      .filter(entry -> entry.getLangKey().equalsIgnoreCase(lang))
-      .map(Entry::getValue)
-      .findFirst()
-      .orElse("");
+    return get(LanguageKey.find(lang));
   }
 
   /**
-   * Возвращает первое попавшееся содержимое мультиязычной строки
+   * Возвращает содержимое для указанного языка
+   *
+   * @param langId Идентификатор языка из {@link LanguageKey}
+   * @return Содержимое для указанного языка
+   */
+  public String get(int langId) {
+    for (var i = 0; i < langIds.length; i++) {
+      if (langIds[i] == langId) {
+        return values[i];
+      }
+    }
+    return "";
+  }
+
+  /**
+   * Возвращает содержимое для языка, соответствующего варианту языка синтаксиса
+   *
+   * @param scriptVariant Вариант языка
+   * @return Содержимое для указанного языка
+   */
+  public String get(ScriptVariant scriptVariant) {
+    return get(LanguageKey.of(scriptVariant));
+  }
+
+  /**
+   * Дописывает содержимое для языка по указанному варианту языка синтаксиса в буфер без создания промежуточных строк
+   *
+   * @param out           Буфер либо поток вывода
+   * @param scriptVariant Вариант языка
+   * @param <T>           Тип буфера
+   * @return Переданный буфер
+   * @throws UncheckedIOException при ошибке записи в поток вывода
+   */
+  public <T extends Appendable> T appendTo(T out, ScriptVariant scriptVariant) {
+    try {
+      out.append(get(scriptVariant));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out;
+  }
+
+  /**
+   * Возвращает первое содержимое мультиязычной строки (в порядке ключей языков)
    *
    * @return Одно из значений мультиязычной строки
    */
   public String getAny() {
-    if (content.isEmpty()) {
+    if (values.length == 0) {
       return "";
     }
-    return content.iterator().next().getValue();
+    return values[0];
+  }
+
+  /**
+   * Возвращает содержимое для каждого языка. Множество создается при первом вызове и далее переиспользуется
+   *
+   * @return Неизменяемое множество элементов
+   */
+  public Set<Entry> getContent() {
+    var result = content;
+    if (result == null) {
+      var entries = new Entry[langIds.length];
+      for (var i = 0; i < entries.length; i++) {
+        entries[i] = new Entry(langIds[i], values[i]).intern();
+      }
+      // гонка безопасна: неизменяемое множество публикуется целиком, потоки получат равные множества
+      result = Set.of(entries);
+      content = result;
+    }
+    return result;
   }
 
   /**
@@ -134,25 +196,25 @@ public class MultiLanguageString implements Comparable<MultiLanguageString> {
    * @return Если пустая, тогда true
    */
   public boolean isEmpty() {
-    return content.isEmpty();
+    return langIds.length == 0;
   }
 
   @Override
   public int compareTo(@Nullable MultiLanguageString multiLanguageString) {
     if (multiLanguageString == null) {
       return 1;
+    } else if (this == multiLanguageString) {
+      return 0;
     }
 
-    var leftList = content.stream().sorted().toList();
-    var rightList = multiLanguageString.content.stream().sorted().toList();
-
-    var sizeComparison = Integer.compare(leftList.size(), rightList.size());
+    var sizeComparison = Integer.compare(size(), multiLanguageString.size());
     if (sizeComparison != 0) {
       return sizeComparison;
     }
 
-    for (var i = 0; i < leftList.size(); i++) {
-      var entryComparison = leftList.get(i).compareTo(rightList.get(i));
+    for (var i = 0; i < langIds.length; i++) {
+      var entryComparison = compare(langIds[i], values[i],
+        multiLanguageString.langIds[i], multiLanguageString.values[i]);
       if (entryComparison != 0) {
         return entryComparison;
       }
@@ -165,32 +227,123 @@ public class MultiLanguageString implements Comparable<MultiLanguageString> {
     if (isEmpty()) {
       return "empty";
     } else {
-      return content.stream()
-        .map(entry -> entry.langKey + ": " + entry.value)
-        .collect(Collectors.joining(", "));
+      var builder = new StringBuilder();
+      for (var i = 0; i < langIds.length; i++) {
+        if (i > 0) {
+          builder.append(", ");
+        }
+        builder.append(LanguageKey.get(langIds[i])).append(": ").append(values[i]);
+      }
+      return builder.toString();
     }
   }
 
+  private int size() {
+    return langIds.length;
+  }
+
   private MultiLanguageString intern() {
     return interner.intern(this);
   }
 
+  /**
+   * Создает строку из произвольного набора элементов: упорядочивает их и удаляет повторы
+   */
+  private static MultiLanguageString of(Entry[] entries) {
+    if (entries.length == 0) {
+      return EMPTY;
+    }
+    Arrays.sort(entries);
+    var langIds = new int[entries.length];
+    var values = new String[entries.length];
+    var size = 0;
+    for (var entry : entries) {
+      if (size > 0 && entry.equals(entries[size - 1])) {
+        continue;
+      }
+      entries[size] = entry;
+      langIds[size] = entry.langId;
+      values[size] = entry.value;
+      size++;
+    }
+    return new MultiLanguageString(Arrays.copyOf(langIds, size), Arrays.copyOf(values, size));
+  }
+
+  /**
+   * Объединяет две упорядоченные строки слиянием без повторной сортировки
+   */
+  private static MultiLanguageString merge(MultiLanguageString first, MultiLanguageString second) {
+    var size = first.size() + second.size();
+    var langIds = new int[size];
+    var values = new String[size];
+    var left = 0;
+    var right = 0;
+    var position = 0;
+    while (left < first.size() || right < second.size()) {
+      int comparison;
+      if (left == first.size()) {
+        comparison = 1;
+      } else if (right == second.size()) {
+        comparison = -1;
+      } else {
+        comparison = compare(first.langIds[left], first.values[left], second.langIds[right], second.values[right]);
+      }
+
+      if (comparison <= 0) {
+        langIds[position] = first.langIds[left];
+        values[position] = first.values[left];
+        left++;
+        if (comparison == 0) {
+          right++;
+        }
+      } else {
+        langIds[position] = second.langIds[right];
+        values[position] = second.values[right];
+        right++;
+      }
+      position++;
+    }
+    if (position == 0) {
+      return EMPTY;
+    }
+    return new MultiLanguageString(Arrays.copyOf(langIds, position), Arrays.copyOf(values, position));
+  }
+
+  private static int compare(int leftLangId, String leftValue, int rightLangId, String rightValue) {
+    if (leftLangId != rightLangId) {
+      return LanguageKey.get(leftLangId).compareTo(LanguageKey.get(rightLangId));
+    }
+    return leftValue.compareTo(rightValue);
+  }
+
   @Getter
   @EqualsAndHashCode
   public static final class Entry implements Comparable<Entry> {
-    private static final StringInterner stringInterner = new StringInterner();
-    private static final GenericInterner<Entry> interner = new GenericInterner<>();
+    private static final Interner<String> stringInterner = Interner.forStrings("MultiLanguageString.values");
+    private static final Interner<Entry> interner = new Interner<>("MultiLanguageString.Entry", 24);
 
-    private final String langKey;
+    /**
+     * Идентификатор ключа языка в {@link LanguageKey}
+     */
+    private final int langId;
     private final String value;
 
-    private Entry(String langKey, String value) {
-      this.langKey = stringInterner.intern(langKey);
+    private Entry(int langId, String value) {
+      this.langId = langId;
       this.value = stringInterner.intern(value);
     }
 
     public static Entry create(String langKey, String value) {
-      return new Entry(langKey, value).intern();
+      return new Entry(LanguageKey.register(langKey), value).intern();
+    }
+
+    /**
+     * Возвращает ключ языка (в нижнем регистре)
+     *
+     * @return Ключ языка
+     */
+    public String getLangKey() {
+      return LanguageKey.get(langId);
     }
 
     @Override
@@ -203,12 +356,7 @@ public class MultiLanguageString implements Comparable<MultiLanguageString> {
         return 0;
       }
 
-      int compareResult = langKey.compareTo(entry.langKey);
-      if (compareResult != 0) {
-        return compareResult;
-      }
-
-      return value.compareTo(entry.value);
+      return compare(langId, value, entry.langId, entry.value);
     }
 
     private Entry intern() {
@@ -21,51 +21,52 @@
  */
 package com.github._1c_syntax.bsl.types;
 
-import com.github._1c_syntax.utils.GenericInterner;
-import edu.umd.cs.findbugs.annotations.Nullable;
-import lombok.EqualsAndHashCode;
+import com.github._1c_syntax.bsl.cache.Interner;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * Используется для хранения имени объекта/свойства имеющего
  * 2 равноценных варианта на русском и английском языках.
  * Пример "Document.МойДокумент.Code" === "Документ.МойДокумент.Код"
+ * <p>
+ * Имя на одном языке хранится одной строкой с признаком языка, вторая строка заполняется только
+ * для имен на обоих языках. Экземпляры интернируются, повторное создание уже известного имени
+ * не порождает объектов.
  */
-@EqualsAndHashCode
 public final class MultiName implements Comparable<MultiName> {
   /**
    * Ссылка на пустой элемент
    */
-  public static final MultiName EMPTY = new MultiName();
-  private static final GenericInterner<MultiName> interner = new GenericInterner<>();
+  public static final MultiName EMPTY = new MultiName("", false, null);
+  private static final Interner<MultiName> interner = new Interner<>("MultiName", 24);
+  private static final ThreadLocal<Probe> PROBES = ThreadLocal.withInitial(Probe::new);
 
   /**
-   * Имя на русском языке
+   * Имя по умолчанию: английское, если оно есть, иначе русское
    */
-  private final String nameRu;
+  private final String name;
 
   /**
-   * Имя на английском языке
+   * Признак того, что имя на одном языке - русское
    */
-  private final String nameEn;
+  private final boolean russian;
 
-  private MultiName() {
-    nameRu = "";
-    nameEn = "";
-  }
+  /**
+   * Русское имя для имен на обоих языках
+   */
+  @Nullable
+  private final String nameRu;
 
-  private MultiName(String name) {
-    if (containsNonEnglish(name)) {
-      this.nameRu = name;
-      this.nameEn = "";
-    } else {
-      this.nameRu = "";
-      this.nameEn = name;
-    }
-  }
+  private final int hash;
 
-  private MultiName(String nameEn, String nameRu) {
+  private MultiName(String name, boolean russian, @Nullable String nameRu) {
+    this.name = name;
+    this.russian = russian;
     this.nameRu = nameRu;
-    this.nameEn = nameEn;
+    this.hash = hash(name, russian, nameRu);
   }
 
   /**
@@ -79,11 +80,11 @@ public final class MultiName implements Comparable<MultiName> {
     if (nameEn.isEmpty() && nameRu.isEmpty()) {
       return EMPTY;
     } else if (nameEn.isEmpty()) {
-      return new MultiName(nameRu).intern();
+      return intern(nameRu, containsNonEnglish(nameRu), null);
     } else if (nameRu.isEmpty()) {
-      return new MultiName(nameEn).intern();
+      return intern(nameEn, containsNonEnglish(nameEn), null);
     } else {
-      return new MultiName(nameEn, nameRu).intern();
+      return intern(nameEn, false, nameRu);
     }
   }
 
@@ -103,10 +104,7 @@ public final class MultiName implements Comparable<MultiName> {
    * @return Имя нужного кода
    */
   public String get() {
-    if (nameEn.isEmpty()) {
-      return nameRu;
-    }
-    return nameEn;
+    return name;
   }
 
   /**
@@ -132,13 +130,31 @@ public final class MultiName implements Comparable<MultiName> {
     return getRu();
   }
 
+  /**
+   * Дописывает имя по указанному варианту языка синтаксиса в буфер без создания промежуточных строк
+   *
+   * @param out           Буфер либо поток вывода
+   * @param scriptVariant Вариант языка
+   * @param <T>           Тип буфера
+   * @return Переданный буфер
+   * @throws UncheckedIOException при ошибке записи в поток вывода
+   */
+  public <T extends Appendable> T appendTo(T out, ScriptVariant scriptVariant) {
+    try {
+      out.append(get(scriptVariant));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out;
+  }
+
   /**
    * Возвращает имя на английском языке
    *
    * @return Имя на английском языке
    */
   public String getEn() {
-    return nameEn;
+    return russian ? "" : name;
   }
 
   /**
@@ -147,7 +163,10 @@ public final class MultiName implements Comparable<MultiName> {
    * @return Имя на русском языке
    */
   public String getRu() {
-    return nameRu;
+    if (nameRu != null) {
+      return nameRu;
+    }
+    return russian ? name : "";
   }
 
   /**
@@ -169,12 +188,25 @@ public final class MultiName implements Comparable<MultiName> {
       return 0;
     }
 
-    int compareResult = nameRu.compareTo(multiName.nameRu);
+    int compareResult = getRu().compareTo(multiName.getRu());
     if (compareResult != 0) {
       return compareResult;
     }
 
-    return nameEn.compareTo(multiName.nameEn);
+    return getEn().compareTo(multiName.getEn());
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    return obj instanceof MultiName other && matches(other.name, other.russian, other.nameRu);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
   }
 
   @Override
@@ -182,12 +214,35 @@ public final class MultiName implements Comparable<MultiName> {
     if (isEmpty()) {
       return "";
     } else {
-      return "MultiName (ru: " + nameRu + ", en: " + nameEn + ")";
+      return "MultiName (ru: " + getRu() + ", en: " + getEn() + ")";
     }
   }
 
-  private MultiName intern() {
-    return interner.intern(this);
+  private boolean matches(String otherName, boolean otherRussian, @Nullable String otherNameRu) {
+    return russian == otherRussian
+      && name.equals(otherName)
+      && (nameRu == null ? otherNameRu == null : nameRu.equals(otherNameRu));
+  }
+
+  private static int hash(String name, boolean russian, @Nullable String nameRu) {
+    var result = 31 * name.hashCode() + (russian ? 1 : 0);
+    return 31 * result + (nameRu == null ? 0 : nameRu.hashCode());
+  }
+
+  /**
+   * Возвращает интернированное имя. Уже известное имя находится по ключу потока без создания объектов
+   */
+  private static MultiName intern(String name, boolean russian, @Nullable String nameRu) {
+    var probe = PROBES.get().set(name, russian, nameRu);
+    try {
+      var existing = interner.find(probe);
+      if (existing != null) {
+        return existing;
+      }
+    } finally {
+      probe.release();
+    }
+    return interner.intern(new MultiName(name, russian, nameRu));
   }
 
   /**
@@ -196,13 +251,71 @@ public final class MultiName implements Comparable<MultiName> {
    * @param text Исходная строка
    * @return Признак того, что в строке есть символы, неиспользуемые в чисто английском синтаксисе
    */
-  private static boolean containsNonEnglish(String text) {
+  static boolean containsNonEnglish(String text) {
     for (var i = 0; i < text.length(); i++) {
-      var c = text.charAt(i);
-      if (Character.UnicodeScript.of(c) == Character.UnicodeScript.CYRILLIC) {
+      if (isCyrillic(text.charAt(i))) {
         return true;
       }
     }
     return false;
   }
+
+  /**
+   * Проверяет принадлежность символа кириллице по диапазонам Unicode, без обращения к таблицам
+   * {@link Character.UnicodeScript}. Символы до U+0400, в том числе вся латиница, отсекаются первым сравнением
+   *
+   * @param c Символ
+   * @return Признак кириллического символа
+   */
+  static boolean isCyrillic(char c) {
+    if (c < '\u0400') {
+      return false;
+    } else if (c <= '\u052F') {
+      // комбинирующие знаки U+0485 и U+0486 относятся к унаследованной письменности
+      return c != '\u0485' && c != '\u0486';
+    } else if (c < '\u1C80') {
+      return false;
+    }
+    return c <= '\u1C88'
+      || c == '\u1D2B'
+      || c == '\u1D78'
+      || (c >= '\u2DE0' && c <= '\u2DFF')
+      || (c >= '\uA640' && c <= '\uA69F')
+      || c == '\uFE2E'
+      || c == '\uFE2F';
+  }
+
+  /**
+   * Ключ потока для поиска имени среди интернированных по его частям
+   */
+  private static final class Probe {
+    private String name = "";
+    private boolean russian;
+    @Nullable
+    private String nameRu;
+    private int hash;
+
+    private Probe set(String name, boolean russian, @Nullable String nameRu) {
+      this.name = name;
+      this.russian = russian;
+      this.nameRu = nameRu;
+      this.hash = MultiName.hash(name, russian, nameRu);
+      return this;
+    }
+
+    private void release() {
+      name = "";
+      nameRu = null;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      return obj instanceof MultiName other && other.hash == hash && other.matches(name, russian, nameRu);
+    }
+  }
 }
@@ -0,0 +1,168 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Регистронезависимый ключ поиска по строке.
+ * <p>
+ * Хеш и сравнение вычисляются по символам исходной последовательности без создания ее копии в нижнем
+ * регистре. Для поиска используется переиспользуемый ключ потока ({@link #probe(CharSequence, int, int)}),
+ * поэтому поиск не порождает объектов.
+ */
+final class NameKey {
+  private static final ThreadLocal<NameKey> PROBES = ThreadLocal.withInitial(NameKey::new);
+
+  private CharSequence chars;
+  private int start;
+  private int end;
+  private int hash;
+
+  private NameKey() {
+    chars = "";
+  }
+
+  private NameKey(String value) {
+    set(value, 0, value.length());
+  }
+
+  /**
+   * Создает ключ для хранения в кэше
+   *
+   * @param value Строка ключа
+   * @return Ключ
+   */
+  static NameKey of(String value) {
+    return new NameKey(value);
+  }
+
+  /**
+   * Возвращает ключ потока для поиска по фрагменту последовательности.
+   * После использования ключ необходимо освободить методом {@link #release()}
+   *
+   * @param chars Последовательность символов
+   * @param start Начало фрагмента
+   * @param end   Конец фрагмента (не включая)
+   * @return Ключ для поиска
+   */
+  static NameKey probe(CharSequence chars, int start, int end) {
+    var probe = PROBES.get();
+    probe.set(chars, start, end);
+    return probe;
+  }
+
+  /**
+   * Освобождает ключ поиска, чтобы он не удерживал последовательность
+   */
+  void release() {
+    chars = "";
+  }
+
+  /**
+   * Приводит символ к нижнему регистру. Для латиницы и кириллицы без обращения к таблицам Unicode
+   *
+   * @param c Символ
+   * @return Символ в нижнем регистре
+   */
+  static char fold(char c) {
+    if (c < 0x80) {
+      return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    } else if (c >= 'А' && c <= 'Я') {
+      return (char) (c + ('а' - 'А'));
+    } else if (c >= 'Ѐ' && c <= 'Џ') {
+      return (char) (c + ('ѐ' - 'Ѐ'));
+    } else if (c >= 'а' && c <= 'я') {
+      return c;
+    }
+    return Character.toLowerCase(c);
+  }
+
+  /**
+   * Вычисляет регистронезависимый хеш фрагмента последовательности
+   *
+   * @param chars Последовательность символов
+   * @param start Начало фрагмента
+   * @param end   Конец фрагмента (не включая)
+   * @return Хеш
+   */
+  static int hash(CharSequence chars, int start, int end) {
+    var result = 0;
+    for (var i = start; i < end; i++) {
+      result = 31 * result + fold(chars.charAt(i));
+    }
+    return result;
+  }
+
+  /**
+   * Сравнивает фрагменты последовательностей без учета регистра
+   *
+   * @param left       Первая последовательность
+   * @param leftStart  Начало фрагмента первой последовательности
+   * @param right      Вторая последовательность
+   * @param rightStart Начало фрагмента второй последовательности
+   * @param length     Длина сравниваемых фрагментов
+   * @return Признак равенства фрагментов
+   */
+  static boolean regionEquals(CharSequence left, int leftStart,
+                              CharSequence right, int rightStart, int length) {
+    for (var i = 0; i < length; i++) {
+      var l = left.charAt(leftStart + i);
+      var r = right.charAt(rightStart + i);
+      if (l != r && fold(l) != fold(r)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof NameKey other)) {
+      return false;
+    }
+    var length = end - start;
+    return hash == other.hash
+      && length == other.end - other.start
+      && regionEquals(chars, start, other.chars, other.start, length);
+  }
+
+  @Override
+  public String toString() {
+    return chars.subSequence(start, end).toString();
+  }
+
+  private void set(CharSequence chars, int start, int end) {
+    this.chars = chars;
+    this.start = start;
+    this.end = end;
+    this.hash = hash(chars, start, end);
+  }
+}
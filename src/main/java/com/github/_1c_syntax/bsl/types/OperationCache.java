@@ -0,0 +1,130 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import com.github._1c_syntax.bsl.cache.CacheMetrics;
+import com.github._1c_syntax.bsl.cache.CacheStatistics;
+import com.github._1c_syntax.bsl.cache.Interner;
+
+import java.util.Arrays;
+import java.util.function.BinaryOperator;
+
+/**
+ * Ограниченный кэш результатов операций над описаниями типов.
+ * <p>
+ * Таблица прямого отображения: пара операндов и операция определяют единственную ячейку, новый результат
+ * вытесняет прежний. Операнды интернированы, поэтому сравниваются по ссылке. Ячейки содержат неизменяемые
+ * записи, что позволяет читать и записывать их без блокировок.
+ * <p>
+ * Записи удерживают операнды и результат сильными ссылками, поэтому кэш работает только при стратегии
+ * интернирования {@link Interner.Strategy#STRONG}. При смене стратегии кэш очищается, при остальных
+ * стратегиях результат вычисляется без кэширования
+ */
+final class OperationCache {
+  /**
+   * Оценка размера записи: запись и ячейка таблицы
+   */
+  private static final long ENTRY_BYTES = 32 + 4;
+
+  /**
+   * Операции над описаниями типов
+   */
+  enum Operation {
+    UNION,
+    INTERSECT,
+    MINUS
+  }
+
+  private final Entry[] entries;
+  private final CacheMetrics metrics;
+  private volatile boolean enabled;
+
+  /**
+   * Создает кэш, учитываемый в статистике
+   *
+   * @param name     Уникальное имя кэша
+   * @param capacity Количество ячеек, степень двойки
+   */
+  OperationCache(String name, int capacity) {
+    if (Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+    }
+    entries = new Entry[capacity];
+    metrics = CacheStatistics.register(name, this::size, () -> size() * ENTRY_BYTES);
+    enabled = Interner.getStrategy() == Interner.Strategy.STRONG;
+    Interner.addStrategyListener(this::switchTo);
+  }
+
+  /**
+   * Возвращает результат операции из кэша либо вычисляет и запоминает его
+   *
+   * @param operation Операция
+   * @param left      Первый операнд
+   * @param right     Второй операнд
+   * @param function  Вычисление результата
+   * @return Результат операции
+   */
+  ValueTypeDescription compute(Operation operation, ValueTypeDescription left, ValueTypeDescription right,
+                               BinaryOperator<ValueTypeDescription> function) {
+    if (!enabled) {
+      metrics.recordMiss();
+      return function.apply(left, right);
+    }
+    var hash = 31 * (31 * left.hashCode() + right.hashCode()) + operation.ordinal();
+    var slot = (hash ^ (hash >>> 16)) & (entries.length - 1);
+    var entry = entries[slot];
+    if (entry != null && entry.operation == operation && entry.left == left && entry.right == right) {
+      metrics.recordHit();
+      return entry.result;
+    }
+    metrics.recordMiss();
+    var result = function.apply(left, right);
+    entries[slot] = new Entry(operation, left, right, result);
+    if (!enabled) {
+      // стратегия сменилась во время вычисления, запись не должна пережить очистку
+      entries[slot] = null;
+    }
+    return result;
+  }
+
+  /**
+   * @return Количество занятых ячеек
+   */
+  long size() {
+    var result = 0L;
+    for (var entry : entries) {
+      if (entry != null) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  private void switchTo(Interner.Strategy value) {
+    enabled = value == Interner.Strategy.STRONG;
+    Arrays.fill(entries, null);
+  }
+
+  private record Entry(Operation operation, ValueTypeDescription left, ValueTypeDescription right,
+                       ValueTypeDescription result) {
+  }
+}
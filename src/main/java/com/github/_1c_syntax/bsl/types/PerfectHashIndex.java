@@ -0,0 +1,247 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Неизменяемый регистронезависимый индекс на основе минимальной совершенной хеш-функции.
+ * <p>
+ * Предназначен для фиксированных наборов имен (элементы перечислений), известных при загрузке класса.
+ * Таблица строится методом "hash and displace": ключи распределяются по корзинам, для каждой корзины
+ * подбирается смещение, при котором все ее ключи попадают в свободные ячейки. Количество ячеек равно
+ * количеству ключей, поэтому поиск любого имени выполняется за одно вычисление хеша и одно сравнение,
+ * без перебора коллизий. Как и {@link CaseInsensitiveIndex}, поиск не создает объектов.
+ *
+ * @param <T> Тип значений
+ */
+final class PerfectHashIndex<T> {
+  private static final long SEED_MULTIPLIER = 0x9E3779B97F4A7C15L;
+  private static final int KEYS_PER_BUCKET = 3;
+  private static final int MAX_DISPLACEMENT = 1 << 20;
+
+  private final String[] keys;
+  private final Object[] values;
+  private final int[] displacements;
+
+  private PerfectHashIndex(String[] keys, Object[] values, int[] displacements) {
+    this.keys = keys;
+    this.values = values;
+    this.displacements = displacements;
+  }
+
+  /**
+   * Строит таблицу по содержимому регистронезависимого индекса
+   *
+   * @param source Исходный индекс
+   * @param <T>    Тип значений
+   * @return Таблица
+   */
+  public static <T> PerfectHashIndex<T> copyOf(CaseInsensitiveIndex<T> source) {
+    var sourceKeys = new ArrayList<String>(source.size());
+    var sourceValues = new ArrayList<T>(source.size());
+    source.forEach((key, value) -> {
+      sourceKeys.add(key);
+      sourceValues.add(value);
+    });
+    return build(sourceKeys, sourceValues);
+  }
+
+  /**
+   * Строит таблицу по русским и английским именам элементов перечисления
+   *
+   * @param values  Элементы перечисления
+   * @param exclude Исключаемый элемент
+   * @param <T>     Тип перечисления
+   * @return Таблица
+   */
+  static <T extends EnumWithName> PerfectHashIndex<T> forEnum(T[] values, @Nullable T exclude) {
+    CaseInsensitiveIndex<T> index = CaseInsensitiveIndex.create(values.length * 2);
+    for (var element : values) {
+      if (element == exclude) {
+        continue;
+      }
+      index.put(element.nameEn(), element);
+      index.put(element.nameRu(), element);
+    }
+    return copyOf(index);
+  }
+
+  /**
+   * Ищет значение по ключу без учета регистра
+   *
+   * @param key Ключ
+   * @return Найденное значение, если не найдено - то null
+   */
+  @Nullable
+  public T get(CharSequence key) {
+    return get(key, 0, key.length());
+  }
+
+  /**
+   * Ищет значение по фрагменту последовательности без учета регистра
+   *
+   * @param key   Последовательность символов
+   * @param start Начало ключа
+   * @param end   Конец ключа (не включая)
+   * @return Найденное значение, если не найдено - то null
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public T get(CharSequence key, int start, int end) {
+    if (keys.length == 0) {
+      return null;
+    }
+    var hash = hash(key, start, end);
+    var slot = slot(hash, displacements[bucket(hash, displacements.length)], keys.length);
+    var candidate = keys[slot];
+    var length = end - start;
+    if (candidate.length() == length && NameKey.regionEquals(candidate, 0, key, start, length)) {
+      return (T) values[slot];
+    }
+    return null;
+  }
+
+  /**
+   * Ищет значение по ключу без учета регистра
+   *
+   * @param key          Ключ
+   * @param defaultValue Значение по умолчанию
+   * @return Найденное значение, если не найдено - то значение по умолчанию
+   */
+  public T getOrDefault(CharSequence key, T defaultValue) {
+    var value = get(key);
+    return value == null ? defaultValue : value;
+  }
+
+  /**
+   * @return Количество ключей
+   */
+  public int size() {
+    return keys.length;
+  }
+
+  private static <T> PerfectHashIndex<T> build(List<String> sourceKeys, List<T> sourceValues) {
+    var size = sourceKeys.size();
+    var hashes = new long[size];
+    for (var i = 0; i < size; i++) {
+      var key = sourceKeys.get(i);
+      hashes[i] = hash(key, 0, key.length());
+    }
+
+    var bucketCount = Math.max(1, (size + KEYS_PER_BUCKET - 1) / KEYS_PER_BUCKET);
+    var buckets = new ArrayList<List<Integer>>(bucketCount);
+    for (var i = 0; i < bucketCount; i++) {
+      buckets.add(new ArrayList<>(KEYS_PER_BUCKET));
+    }
+    for (var i = 0; i < size; i++) {
+      buckets.get(bucket(hashes[i], bucketCount)).add(i);
+    }
+
+    // сначала размещаются самые заполненные корзины, пока свободных ячеек много
+    var order = new Integer[bucketCount];
+    Arrays.setAll(order, i -> i);
+    Arrays.sort(order, Comparator.comparingInt((Integer bucket) -> buckets.get(bucket).size()).reversed());
+
+    var displacements = new int[bucketCount];
+    var keys = new String[size];
+    var values = new Object[size];
+    var occupied = new boolean[size];
+    var slots = new int[KEYS_PER_BUCKET * 8];
+    for (var bucket : order) {
+      var members = buckets.get(bucket);
+      if (members.isEmpty()) {
+        break;
+      }
+      if (slots.length < members.size()) {
+        slots = new int[members.size()];
+      }
+      var displacement = findDisplacement(members, hashes, occupied, slots);
+      displacements[bucket] = displacement;
+      for (var i = 0; i < members.size(); i++) {
+        var member = members.get(i);
+        occupied[slots[i]] = true;
+        keys[slots[i]] = sourceKeys.get(member);
+        values[slots[i]] = sourceValues.get(member);
+      }
+    }
+    return new PerfectHashIndex<>(keys, values, displacements);
+  }
+
+  private static int findDisplacement(List<Integer> members, long[] hashes, boolean[] occupied, int[] slots) {
+    for (var displacement = 0; displacement < MAX_DISPLACEMENT; displacement++) {
+      if (tryPlace(members, hashes, occupied, slots, displacement)) {
+        return displacement;
+      }
+    }
+    throw new IllegalStateException("Unable to build perfect hash for " + members.size() + " keys");
+  }
+
+  private static boolean tryPlace(List<Integer> members, long[] hashes, boolean[] occupied, int[] slots,
+                                  int displacement) {
+    for (var i = 0; i < members.size(); i++) {
+      var slot = slot(hashes[members.get(i)], displacement, occupied.length);
+      if (occupied[slot]) {
+        return false;
+      }
+      for (var j = 0; j < i; j++) {
+        if (slots[j] == slot) {
+          return false;
+        }
+      }
+      slots[i] = slot;
+    }
+    return true;
+  }
+
+  private static long hash(CharSequence chars, int start, int end) {
+    // 64-битный FNV-1a по символам в нижнем регистре: коллизии полного хеша на наборах имен исключены
+    var result = 0xcbf29ce484222325L;
+    for (var i = start; i < end; i++) {
+      result = (result ^ NameKey.fold(chars.charAt(i))) * 0x100000001b3L;
+    }
+    return result;
+  }
+
+  private static int bucket(long hash, int bucketCount) {
+    return reduce(mix(hash), bucketCount);
+  }
+
+  private static int slot(long hash, int displacement, int size) {
+    return reduce(mix(hash ^ (displacement + 1) * SEED_MULTIPLIER), size);
+  }
+
+  private static long mix(long value) {
+    var result = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+    result = (result ^ (result >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return result ^ (result >>> 33);
+  }
+
+  private static int reduce(long hash, int range) {
+    return (int) (((hash >>> 32) * range) >>> 32);
+  }
+}
@@ -36,4 +36,48 @@ public interface Qualifier {
    * @return Представление квалификатора
    */
   MultiName description();
+
+  /**
+   * Возвращает вид квалификатора
+   *
+   * @return Вид квалификатора
+   */
+  default QualifierKind kind() {
+    return QualifierKind.UNKNOWN;
+  }
+
+  /**
+   * Возвращает упакованные значения квалификатора. Порядок ключей квалификаторов одного вида совпадает
+   * с их естественным порядком, что позволяет упорядочивать квалификаторы без формирования представления
+   *
+   * @return Ключ упорядочивания
+   */
+  default long sortKey() {
+    return 0;
+  }
+
+  /**
+   * Проверяет, что все значения, допустимые другим квалификатором, допустимы и этим квалификатором.
+   * По умолчанию квалификатор содержит только равный ему
+   *
+   * @param other Другой квалификатор
+   * @return Признак вхождения
+   */
+  default boolean contains(Qualifier other) {
+    return equals(other);
+  }
+
+  /**
+   * Дописывает представление квалификатора по указанному варианту языка синтаксиса в буфер.
+   * Реализации формируют текст напрямую, не создавая представление {@link #description()}
+   *
+   * @param out           Буфер либо поток вывода
+   * @param scriptVariant Вариант языка
+   * @param <T>           Тип буфера
+   * @return Переданный буфер
+   * @throws java.io.UncheckedIOException при ошибке записи в поток вывода
+   */
+  default <T extends Appendable> T appendTo(T out, ScriptVariant scriptVariant) {
+    return description().appendTo(out, scriptVariant);
+  }
 }
@@ -0,0 +1,51 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import com.github._1c_syntax.bsl.types.value.PrimitiveValueType;
+import com.github._1c_syntax.bsl.types.value.V8ValueType;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Виды квалификаторов. Порядок элементов задает порядок квалификаторов в описании типа
+ */
+public enum QualifierKind {
+  DATE(PrimitiveValueType.DATE),
+  BINARY_DATA(V8ValueType.BINARY_DATA),
+  STRING(PrimitiveValueType.STRING),
+  NUMBER(PrimitiveValueType.NUMBER),
+  UNKNOWN(null);
+
+  /**
+   * Тип значения, который ограничивает квалификатор, либо null для неизвестного вида
+   */
+  @Getter
+  @Accessors(fluent = true)
+  @Nullable
+  private final ValueType valueType;
+
+  QualifierKind(@Nullable ValueType valueType) {
+    this.valueType = valueType;
+  }
+}
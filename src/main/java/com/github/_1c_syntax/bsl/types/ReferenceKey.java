@@ -0,0 +1,179 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Ключ ссылки в реестре: владелец, тип и имя элемента.
+ * <p>
+ * Имя сравнивается без учета регистра, владелец - по ссылке либо по структуре без учета регистра.
+ * Имя стандартного реквизита приводится к английскому, поэтому русское и английское имена дают один ключ.
+ * Ключ без типа используется для ссылок, созданных по произвольным строковым представлениям,
+ * тогда имя содержит представление целиком. Как и {@link NameKey}, для поиска используется
+ * переиспользуемый ключ потока ({@link #probe(MdoReference, MDOType, CharSequence, int, int)}).
+ */
+final class ReferenceKey {
+  private static final ThreadLocal<ReferenceKey> PROBES = ThreadLocal.withInitial(ReferenceKey::new);
+
+  @Nullable
+  private MdoReference owner;
+  @Nullable
+  private MDOType type;
+  private CharSequence chars;
+  private int start;
+  private int end;
+  private int hash;
+
+  private ReferenceKey() {
+    chars = "";
+  }
+
+  private ReferenceKey(@Nullable MdoReference owner, @Nullable MDOType type, CharSequence name) {
+    set(owner, type, name, 0, name.length());
+  }
+
+  /**
+   * Создает ключ для хранения в реестре
+   *
+   * @param owner Владелец, null для объектов верхнего уровня
+   * @param type  Тип элемента, null для ссылок с произвольным представлением
+   * @param name  Имя элемента
+   * @return Ключ
+   */
+  static ReferenceKey of(@Nullable MdoReference owner, @Nullable MDOType type, CharSequence name) {
+    return new ReferenceKey(owner, type, name);
+  }
+
+  /**
+   * Возвращает ключ потока для поиска по фрагменту последовательности.
+   * После использования ключ необходимо освободить методом {@link #release()}
+   *
+   * @param owner Владелец, null для объектов верхнего уровня
+   * @param type  Тип элемента, null для ссылок с произвольным представлением
+   * @param chars Последовательность символов
+   * @param start Начало имени
+   * @param end   Конец имени (не включая)
+   * @return Ключ для поиска
+   */
+  static ReferenceKey probe(@Nullable MdoReference owner, @Nullable MDOType type,
+                            CharSequence chars, int start, int end) {
+    return probe().reset(owner, type, chars, start, end);
+  }
+
+  /**
+   * Возвращает ключ потока для последовательного поиска по частям полного имени.
+   * Перед каждым поиском ключ заполняется методом {@link #reset(MdoReference, MDOType, CharSequence, int, int)},
+   * после использования его необходимо освободить методом {@link #release()}
+   *
+   * @return Ключ для поиска
+   */
+  static ReferenceKey probe() {
+    return PROBES.get();
+  }
+
+  /**
+   * Заполняет ключ поиска
+   *
+   * @param owner Владелец, null для объектов верхнего уровня
+   * @param type  Тип элемента, null для ссылок с произвольным представлением
+   * @param chars Последовательность символов
+   * @param start Начало имени
+   * @param end   Конец имени (не включая)
+   * @return Этот же ключ
+   */
+  ReferenceKey reset(@Nullable MdoReference owner, @Nullable MDOType type, CharSequence chars, int start, int end) {
+    set(owner, type, chars, start, end);
+    return this;
+  }
+
+  /**
+   * Освобождает ключ поиска, чтобы он не удерживал владельца и последовательность
+   */
+  void release() {
+    owner = null;
+    chars = "";
+  }
+
+  /**
+   * Вычисляет регистронезависимый хеш ключа
+   *
+   * @param owner Владелец
+   * @param type  Тип элемента
+   * @param chars Последовательность символов
+   * @param start Начало имени
+   * @param end   Конец имени (не включая)
+   * @return Хеш
+   */
+  static int hash(@Nullable MdoReference owner, @Nullable MDOType type, CharSequence chars, int start, int end) {
+    var result = owner == null ? 0 : owner.hashCode();
+    result = 31 * result + (type == null ? -1 : type.ordinal());
+    return 31 * result + NameKey.hash(chars, start, end);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof ReferenceKey other)) {
+      return false;
+    }
+    var length = end - start;
+    return hash == other.hash
+      && type == other.type
+      && length == other.end - other.start
+      && NameKey.regionEquals(chars, start, other.chars, other.start, length)
+      && MdoReference.equalsIgnoreCase(owner, other.owner);
+  }
+
+  @Override
+  public String toString() {
+    var name = chars.subSequence(start, end).toString();
+    if (type == null) {
+      return name;
+    }
+    return owner == null ? type.nameEn() + "." + name : owner.getMdoRef() + "." + type.nameEn() + "." + name;
+  }
+
+  private void set(@Nullable MdoReference owner, @Nullable MDOType type, CharSequence chars, int start, int end) {
+    if (type == MDOType.STANDARD_ATTRIBUTE) {
+      var stdName = StdAttributeNames.lookup(chars, start, end);
+      if (stdName != null) {
+        chars = stdName.getEn();
+        start = 0;
+        end = chars.length();
+      }
+    }
+    this.owner = owner;
+    this.type = type;
+    this.chars = chars;
+    this.start = start;
+    this.end = end;
+    this.hash = hash(owner, type, chars, start, end);
+  }
+}
@@ -0,0 +1,345 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import com.github._1c_syntax.bsl.types.value.CustomValueType;
+import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Двоичный снимок реестра ссылок {@link MdoReferenceRegistry} и рассчитанных типов значений
+ * ({@link ValueTypes}, {@link CustomValueType}) для быстрого повторного запуска без разбора конфигурации.
+ * <p>
+ * Снимок состоит из заголовка и содержимого. Содержимое включает таблицу строк, ссылки в виде
+ * индексов владельца, порядковых номеров видов метаданных и индексов имен в таблице строк, а также
+ * рассчитанные типы значений. Владелец всегда записывается раньше своих дочерних элементов.
+ * <p>
+ * Заголовок содержит контрольную сумму содержимого, признак версии формата и состава перечислений, а также
+ * хеш исходных данных, переданный вызывающей стороной (например, хеш файлов конфигурации). Снимок,
+ * не прошедший любую из проверок, отклоняется. Содержимое сначала разбирается целиком и только затем
+ * помещается в реестр, поэтому отклоненный снимок не оставляет в реестре частично восстановленных ссылок.
+ */
+@UtilityClass
+public class RegistrySnapshot {
+  private static final int MAGIC = 0x42534C52;
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = 28;
+  private static final int NO_OWNER = -1;
+  private static final int FLAG_VERBATIM = 1;
+  private static final int FLAG_VALUE_TYPES = 1;
+  private static final int SCHEMA_HASH = computeSchemaHash();
+
+  /**
+   * Записывает снимок реестра и рассчитанных типов значений в файл.
+   * Файл заменяется атомарно, поэтому читатели не увидят частично записанный снимок
+   *
+   * @param path       Путь к файлу снимка
+   * @param registry   Реестр ссылок
+   * @param sourceHash Хеш исходных данных, по которым построен реестр
+   * @throws IOException Ошибка записи файла
+   */
+  public static void write(Path path, MdoReferenceRegistry registry, long sourceHash) throws IOException {
+    var payload = encode(registry);
+    var checksum = new CRC32C();
+    checksum.update(payload);
+
+    var buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length)
+      .putInt(MAGIC)
+      .putInt(VERSION)
+      .putInt(SCHEMA_HASH)
+      .putInt((int) checksum.getValue())
+      .putLong(sourceHash)
+      .putInt(payload.length)
+      .put(payload)
+      .flip();
+
+    var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+    try (var channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+      StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+    Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Восстанавливает реестр и рассчитанные типы значений из снимка.
+   * Ничего не восстанавливается, если файла нет, он поврежден, записан другой версией библиотеки
+   * либо построен по другим исходным данным
+   *
+   * @param path       Путь к файлу снимка
+   * @param registry   Реестр, в который восстанавливаются ссылки
+   * @param sourceHash Ожидаемый хеш исходных данных
+   * @return Признак успешного восстановления
+   * @throws IOException Ошибка чтения файла
+   */
+  public static boolean read(Path path, MdoReferenceRegistry registry, long sourceHash) throws IOException {
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      var size = channel.size();
+      if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+        return false;
+      }
+      var buffer = ByteBuffer.allocate((int) size);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) {
+          return false;
+        }
+      }
+      buffer.flip();
+      if (buffer.getInt() != MAGIC
+        || buffer.getInt() != VERSION
+        || buffer.getInt() != SCHEMA_HASH) {
+        return false;
+      }
+      var expectedChecksum = buffer.getInt();
+      if (buffer.getLong() != sourceHash || buffer.getInt() != size - HEADER_BYTES) {
+        return false;
+      }
+      var checksum = new CRC32C();
+      checksum.update(buffer.slice());
+      if ((int) checksum.getValue() != expectedChecksum) {
+        return false;
+      }
+      var contents = decode(buffer);
+      if (contents == null) {
+        return false;
+      }
+      contents.publish(registry);
+      return true;
+    } catch (NoSuchFileException e) {
+      return false;
+    }
+  }
+
+  private static byte[] encode(MdoReferenceRegistry registry) throws IOException {
+    var strings = new StringTable();
+    var references = orderByOwner(registry.references());
+    var customTypes = CustomValueType.values();
+    var computedTypes = new HashSet<>(ValueTypes.computedTypes());
+
+    var referencesBytes = new ByteArrayOutputStream();
+    var out = new DataOutputStream(referencesBytes);
+    out.writeInt(references.size());
+    var indexes = new IdentityHashMap<MdoReference, Integer>();
+    for (var reference : references) {
+      var owner = reference.owner();
+      out.writeByte(reference.isVerbatim() ? FLAG_VERBATIM : 0);
+      out.writeShort(reference.getType().ordinal());
+      out.writeInt(owner == null ? NO_OWNER : indexes.get(owner));
+      out.writeInt(strings.index(reference.getName()));
+      out.writeInt(strings.index(reference.getNameRu()));
+      indexes.put(reference, indexes.size());
+    }
+
+    out.writeInt(customTypes.size());
+    for (var valueType : customTypes) {
+      out.writeByte(valueType.variant().ordinal());
+      out.writeShort(valueType.kind().ordinal());
+      out.writeInt(strings.index(valueType.nameEn()));
+      out.writeInt(strings.index(valueType.nameRu()));
+      out.writeByte(computedTypes.contains(valueType) ? FLAG_VALUE_TYPES : 0);
+    }
+    out.flush();
+
+    var payload = new ByteArrayOutputStream(referencesBytes.size() + strings.bytes.size() + Integer.BYTES);
+    var payloadOut = new DataOutputStream(payload);
+    payloadOut.writeInt(strings.size());
+    strings.bytes.writeTo(payloadOut);
+    referencesBytes.writeTo(payloadOut);
+    payloadOut.flush();
+    return payload.toByteArray();
+  }
+
+  /**
+   * Разбирает содержимое снимка, не изменяя реестр и типы значений
+   *
+   * @return Содержимое снимка либо null, если оно не соответствует формату
+   */
+  @Nullable
+  private static Contents decode(ByteBuffer buffer) {
+    try {
+      var strings = new String[buffer.getInt()];
+      var bytes = new byte[64];
+      for (var i = 0; i < strings.length; i++) {
+        var length = buffer.getInt();
+        if (bytes.length < length) {
+          bytes = new byte[Math.max(length, 2 * bytes.length)];
+        }
+        buffer.get(bytes, 0, length);
+        strings[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+      }
+
+      var mdoTypes = MDOType.values();
+      var references = new ReferenceRecord[buffer.getInt()];
+      for (var i = 0; i < references.length; i++) {
+        var flags = buffer.get();
+        var mdoType = mdoTypes[buffer.getShort()];
+        var ownerIndex = buffer.getInt();
+        if (ownerIndex != NO_OWNER && (ownerIndex < 0 || ownerIndex >= i)) {
+          return null;
+        }
+        references[i] = new ReferenceRecord(ownerIndex, mdoType, strings[buffer.getInt()], strings[buffer.getInt()],
+          (flags & FLAG_VERBATIM) != 0);
+      }
+
+      var variants = ValueTypeVariant.values();
+      var valueTypes = new ValueTypeRecord[buffer.getInt()];
+      for (var i = 0; i < valueTypes.length; i++) {
+        valueTypes[i] = new ValueTypeRecord(variants[buffer.get()], mdoTypes[buffer.getShort()],
+          strings[buffer.getInt()], strings[buffer.getInt()], (buffer.get() & FLAG_VALUE_TYPES) != 0);
+      }
+      return buffer.hasRemaining() ? null : new Contents(references, valueTypes);
+    } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Упорядочивает ссылки так, чтобы владелец предшествовал дочерним элементам
+   */
+  private static List<MdoReference> orderByOwner(List<MdoReference> references) {
+    var ordered = new IdentityHashMap<MdoReference, Boolean>(references.size() * 2);
+    var result = new ArrayList<MdoReference>(references.size());
+    for (var reference : references) {
+      addWithOwners(reference, ordered, result);
+    }
+    return result;
+  }
+
+  private static void addWithOwners(MdoReference reference, Map<MdoReference, Boolean> ordered,
+                                    List<MdoReference> result) {
+    if (ordered.containsKey(reference)) {
+      return;
+    }
+    var owner = reference.owner();
+    if (owner != null) {
+      addWithOwners(owner, ordered, result);
+    }
+    ordered.put(reference, Boolean.TRUE);
+    result.add(reference);
+  }
+
+  private static int computeSchemaHash() {
+    var hash = VERSION;
+    for (var mdoType : MDOType.values()) {
+      hash = 31 * hash + mdoType.name().hashCode();
+    }
+    for (var variant : ValueTypeVariant.values()) {
+      hash = 31 * hash + variant.name().hashCode();
+    }
+    return hash;
+  }
+
+  /**
+   * Разобранное содержимое снимка
+   */
+  private static final class Contents {
+    private final ReferenceRecord[] references;
+    private final ValueTypeRecord[] valueTypes;
+
+    private Contents(ReferenceRecord[] references, ValueTypeRecord[] valueTypes) {
+      this.references = references;
+      this.valueTypes = valueTypes;
+    }
+
+    /**
+     * Помещает ссылки в реестр и регистрирует типы значений
+     */
+    private void publish(MdoReferenceRegistry registry) {
+      var restored = new MdoReference[references.length];
+      for (var i = 0; i < references.length; i++) {
+        var reference = references[i];
+        var owner = reference.ownerIndex() == NO_OWNER ? null : restored[reference.ownerIndex()];
+        restored[i] = registry.restore(owner, reference.mdoType(), reference.name(), reference.nameRu(),
+          reference.verbatim());
+      }
+
+      for (var entry : valueTypes) {
+        var valueType = entry.variant() == ValueTypeVariant.METADATA
+          ? CustomValueType.create(entry.kind(), entry.nameEn(), entry.nameRu())
+          : CustomValueType.create(entry.nameEn().isEmpty() ? entry.nameRu() : entry.nameEn());
+        if (entry.computed()) {
+          ValueTypes.restore(valueType);
+        }
+      }
+    }
+  }
+
+  /**
+   * Ссылка снимка: индекс владельца среди ранее записанных ссылок, вид и имена
+   */
+  private record ReferenceRecord(int ownerIndex, MDOType mdoType, String name, String nameRu, boolean verbatim) {
+  }
+
+  /**
+   * Рассчитанный тип значения снимка
+   */
+  private record ValueTypeRecord(ValueTypeVariant variant, MDOType kind, String nameEn, String nameRu,
+                                 boolean computed) {
+  }
+
+  /**
+   * Таблица строк снимка. Каждая строка записывается один раз и далее упоминается по индексу
+   */
+  private static final class StringTable {
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(bytes);
+
+    private int index(String value) throws IOException {
+      var index = indexes.get(value);
+      if (index == null) {
+        index = indexes.size();
+        indexes.put(value, index);
+        var encoded = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+      }
+      return index;
+    }
+
+    private int size() {
+      return indexes.size();
+    }
+  }
+}
@@ -25,10 +25,6 @@ import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 
-import java.util.Locale;
-import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
-
 /**
  * Возможные варианты языков, на которых разрабатывается код
  */
@@ -38,7 +34,7 @@ public enum ScriptVariant implements EnumWithName {
   RUSSIAN("Russian", "Русский", "ru"),
   UNKNOWN("unknown", "неизвестный", "--");
 
-  private static final Map<String, ScriptVariant> KEYS = computeKeys();
+  private static final PerfectHashIndex<ScriptVariant> KEYS = computeKeys();
 
   @Getter
   @Accessors(fluent = true)
@@ -66,16 +62,16 @@ public enum ScriptVariant implements EnumWithName {
     return KEYS.getOrDefault(string, RUSSIAN);
   }
 
-  private static Map<String, ScriptVariant> computeKeys() {
-    Map<String, ScriptVariant> keysMap = new ConcurrentSkipListMap<>(String.CASE_INSENSITIVE_ORDER);
+  private static PerfectHashIndex<ScriptVariant> computeKeys() {
+    CaseInsensitiveIndex<ScriptVariant> keysMap = CaseInsensitiveIndex.create();
     for (var element : values()) {
       if (element == UNKNOWN) {
         continue;
       }
-      keysMap.put(element.nameEn().toLowerCase(Locale.ROOT), element);
-      keysMap.put(element.nameRu().toLowerCase(Locale.ROOT), element);
-      keysMap.put(element.shortName().toLowerCase(Locale.ROOT), element);
+      keysMap.put(element.nameEn(), element);
+      keysMap.put(element.nameRu(), element);
+      keysMap.put(element.shortName(), element);
     }
-    return keysMap;
+    return PerfectHashIndex.copyOf(keysMap);
   }
 }
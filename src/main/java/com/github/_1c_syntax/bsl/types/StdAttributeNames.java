@@ -22,12 +22,9 @@
 package com.github._1c_syntax.bsl.types;
 
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Locale;
-import java.util.Map;
-import java.util.stream.Stream;
+import java.util.List;
 
 /**
  * Вспомогательный класс для хранения стандартных реквизитов
@@ -93,7 +90,7 @@ public class StdAttributeNames {
   public static final MultiName EXT_DIMENSION_5 = MultiName.create("ExtDimension5", "Субконто5");
   public static final MultiName EXT_DIMENSION_TYPE_5 = MultiName.create("ExtDimensionType5", "ВидСубконто5");
 
-  private static final Map<String, MultiName> KEYS = computeKeys();
+  private static final PerfectHashIndex<MultiName> KEYS = computeKeys();
 
   /**
    * Возвращает мультиимя стандартного реквизита по имени (русскому или английскому)
@@ -102,7 +99,7 @@ public class StdAttributeNames {
    * @return Мультиимя
    */
   public static MultiName get(String name) {
-    var result = KEYS.get(name.toLowerCase(Locale.ROOT));
+    var result = KEYS.get(name);
     if (result == null) {
       LOGGER.info("Unknown std. attribute {}", name);
       return MultiName.EMPTY;
@@ -110,8 +107,21 @@ public class StdAttributeNames {
     return result;
   }
 
-  private static Map<String, MultiName> computeKeys() {
-    return Collections.unmodifiableMap(Stream.of(
+  /**
+   * Возвращает мультиимя стандартного реквизита по фрагменту строки без создания подстроки
+   *
+   * @param chars Последовательность символов
+   * @param start Начало имени
+   * @param end   Конец имени (не включая)
+   * @return Мультиимя либо null, если реквизит неизвестен
+   */
+  @Nullable
+  static MultiName lookup(CharSequence chars, int start, int end) {
+    return KEYS.get(chars, start, end);
+  }
+
+  private static PerfectHashIndex<MultiName> computeKeys() {
+    var names = List.of(
       PREDEFINED_DATA_NAME, PREDEFINED, REF, DELETION_MARK, IS_FOLDER, PARENT,
       DESCRIPTION, CODE, OWNER, LINE_NUMBER, ACTIVE, ORDER, PERIOD, THIS_NODE,
       RECEIVED_NO, SENT_NO, NUMBER, END_OF_BASE_PERIOD, BEG_OF_BASE_PERIOD,
@@ -126,13 +136,13 @@ public class StdAttributeNames {
       EXT_DIMENSION_3, EXT_DIMENSION_TYPE_3,
       EXT_DIMENSION_4, EXT_DIMENSION_TYPE_4,
       EXT_DIMENSION_5, EXT_DIMENSION_TYPE_5
-    ).collect(
-      HashMap::new,
-      (map, mn) -> {
-        map.put(mn.getEn().toLowerCase(Locale.ROOT), mn);
-        map.put(mn.getRu().toLowerCase(Locale.ROOT), mn);
-      },
-      HashMap::putAll
-    ));
+    );
+
+    CaseInsensitiveIndex<MultiName> index = CaseInsensitiveIndex.create(names.size() * 2);
+    names.forEach(mn -> {
+      index.put(mn.getEn(), mn);
+      index.put(mn.getRu(), mn);
+    });
+    return PerfectHashIndex.copyOf(index);
   }
 }
@@ -0,0 +1,112 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import com.github._1c_syntax.bsl.types.value.MDOValueType;
+import com.github._1c_syntax.bsl.types.value.PrimitiveValueType;
+import com.github._1c_syntax.bsl.types.value.V8ValueType;
+import lombok.experimental.UtilityClass;
+
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Сквозная нумерация встроенных типов значений ({@link PrimitiveValueType}, {@link V8ValueType},
+ * {@link MDOValueType}) для хранения их наборов битовой маской.
+ * <p>
+ * Номер типа совпадает с его позицией в порядке английских имен, поэтому обход установленных битов
+ * по возрастанию перечисляет типы в том же порядке, в каком они упорядочены в описании типа
+ */
+@UtilityClass
+class ValueTypeBits {
+  private static final ValueType[] TYPES = Stream.of(
+      PrimitiveValueType.values(), V8ValueType.values(), MDOValueType.values())
+    .flatMap(Stream::of)
+    .sorted(Comparator.comparing(ValueType::nameEn))
+    .toArray(ValueType[]::new);
+
+  /**
+   * Количество слов маски, вмещающей все встроенные типы
+   */
+  static final int WORDS = (TYPES.length + Long.SIZE - 1) / Long.SIZE;
+
+  private static final int[] PRIMITIVE_INDEXES = new int[PrimitiveValueType.values().length];
+  private static final int[] V8_INDEXES = new int[V8ValueType.values().length];
+  private static final int[] MDO_INDEXES = new int[MDOValueType.values().length];
+
+  static {
+    for (var i = 0; i < TYPES.length; i++) {
+      switch (TYPES[i]) {
+        case PrimitiveValueType type -> PRIMITIVE_INDEXES[type.ordinal()] = i;
+        case V8ValueType type -> V8_INDEXES[type.ordinal()] = i;
+        case MDOValueType type -> MDO_INDEXES[type.ordinal()] = i;
+        default -> throw new IllegalStateException("Unexpected value type " + TYPES[i]);
+      }
+    }
+  }
+
+  /**
+   * Возвращает номер встроенного типа
+   *
+   * @param type Тип значения
+   * @return Номер типа либо -1, если тип не относится к встроенным перечислениям
+   */
+  static int indexOf(ValueType type) {
+    return switch (type) {
+      case PrimitiveValueType primitive -> PRIMITIVE_INDEXES[primitive.ordinal()];
+      case V8ValueType v8 -> V8_INDEXES[v8.ordinal()];
+      case MDOValueType mdo -> MDO_INDEXES[mdo.ordinal()];
+      default -> -1;
+    };
+  }
+
+  /**
+   * Возвращает количество встроенных типов
+   *
+   * @return Количество типов
+   */
+  static int size() {
+    return TYPES.length;
+  }
+
+  /**
+   * Возвращает встроенный тип по номеру
+   *
+   * @param index Номер типа
+   * @return Тип значения
+   */
+  static ValueType get(int index) {
+    return TYPES[index];
+  }
+
+  /**
+   * Проверяет наличие типа с указанным номером в маске
+   *
+   * @param bits  Маска
+   * @param index Номер типа
+   * @return Признак наличия
+   */
+  static boolean contains(long[] bits, int index) {
+    var word = index / Long.SIZE;
+    return word < bits.length && (bits[word] & (1L << index)) != 0;
+  }
+}
@@ -21,53 +21,100 @@
  */
 package com.github._1c_syntax.bsl.types;
 
+import com.github._1c_syntax.bsl.cache.Interner;
+import com.github._1c_syntax.bsl.types.OperationCache.Operation;
 import com.github._1c_syntax.bsl.types.qualifiers.NumberQualifiers;
 import com.github._1c_syntax.bsl.types.qualifiers.StringQualifiers;
 import com.github._1c_syntax.bsl.types.value.MDOValueType;
 import com.github._1c_syntax.bsl.types.value.PrimitiveValueType;
-import com.github._1c_syntax.utils.GenericInterner;
-import lombok.Value;
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 
 /**
- * Используется для хранения описания типов значения - коллекции типов и их квалификаторов
+ * Используется для хранения описания типов значения - коллекции типов и их квалификаторов.
+ * <p>
+ * Встроенные типы (примитивные, платформенные и типы метаданных) хранятся битовой маской по номерам
+ * из {@link ValueTypeBits}, остальные - упорядоченным по имени массивом. Проверка вхождения встроенного
+ * типа - это проверка одного бита
  */
-@Value
-public class ValueTypeDescription {
+public final class ValueTypeDescription {
+  private static final long[] NO_BITS = new long[0];
+  private static final ValueType[] NO_TYPES = new ValueType[0];
+  private static final Comparator<ValueType> BY_NAME = Comparator.comparing(ValueType::nameEn);
+  private static final Comparator<Qualifier> QUALIFIER_ORDER = ValueTypeDescription::compareQualifiers;
+
   public static final ValueTypeDescription EMPTY = new ValueTypeDescription();
 
-  private static final GenericInterner<ValueTypeDescription> INTERNER = new GenericInterner<>();
+  private static final Interner<ValueTypeDescription> INTERNER = new Interner<>("ValueTypeDescription", 64);
+  private static final OperationCache OPERATIONS = new OperationCache("ValueTypeDescription.operations", 1024);
+  private static final ThreadLocal<Builder> BUILDERS = ThreadLocal.withInitial(Builder::new);
+
+  /**
+   * Типы, значения которых ограничиваются квалификаторами
+   */
+  private static final ValueType[] QUALIFIED_TYPES = Arrays.stream(QualifierKind.values())
+    .map(QualifierKind::valueType)
+    .filter(Objects::nonNull)
+    .toArray(ValueType[]::new);
+
+  /**
+   * Маска встроенных типов описания без завершающих пустых слов
+   */
+  private final long[] bits;
 
   /**
-   * Список типов описания
+   * Прочие типы описания, упорядоченные по имени
    */
-  List<ValueType> types;
+  private final ValueType[] otherTypes;
 
   /**
    * Признак составного типа (т.е. содержит несколько типов в описании)
    */
-  boolean composite;
+  @Getter
+  private final boolean composite;
+
+  @Getter
+  private final List<Qualifier> qualifiers;
 
-  List<Qualifier> qualifiers;
+  private final int hash;
+
+  /**
+   * Список типов, формируется при первом обращении
+   */
+  @Nullable
+  private List<ValueType> types;
 
   private ValueTypeDescription() {
-    this(Collections.emptyList(), Collections.emptyList(), false);
+    this(NO_BITS, NO_TYPES, Collections.emptyList(), false);
   }
 
-  private ValueTypeDescription(List<ValueType> types, List<Qualifier> qualifiers, boolean composite) {
-    this.types = types.stream()
-      .sorted(Comparator.comparing(ValueType::nameEn))
-      .distinct()
-      .toList();
+  private ValueTypeDescription(long[] bits, ValueType[] otherTypes, List<Qualifier> qualifiers, boolean composite) {
+    this.bits = bits;
+    this.otherTypes = otherTypes;
     this.composite = composite;
-    this.qualifiers = qualifiers.stream()
-      .sorted(Comparator.comparing(Qualifier::description))
-      .filter(qualifier -> !Qualifier.EMPTY.equals(qualifier))
-      .distinct()
-      .toList();
+    this.qualifiers = qualifiers;
+    this.hash = hash(Arrays.hashCode(bits), Arrays.hashCode(otherTypes), composite, qualifiers.hashCode());
+  }
+
+  /**
+   * Возвращает список типов описания, упорядоченный по английскому имени
+   *
+   * @return Неизменяемый список типов
+   */
+  public List<ValueType> getTypes() {
+    var result = types;
+    if (result == null) {
+      result = computeTypes();
+      types = result;
+    }
+    return result;
   }
 
   /**
@@ -86,7 +133,139 @@ public class ValueTypeDescription {
    * @return Признак вхождения
    */
   public boolean contains(ValueType type) {
-    return types.contains(type);
+    var index = ValueTypeBits.indexOf(type);
+    if (index >= 0) {
+      return ValueTypeBits.contains(bits, index);
+    }
+    return containsOther(type);
+  }
+
+  /**
+   * Объединяет описания типов. Квалификатор типа, входящего в оба описания, сохраняется только при совпадении,
+   * иначе тип в результате не ограничен
+   *
+   * @param other Второе описание
+   * @return Описание, допускающее значения обоих описаний
+   */
+  public ValueTypeDescription union(ValueTypeDescription other) {
+    if (this == other || other.isEmpty()) {
+      return this;
+    } else if (isEmpty()) {
+      return other;
+    }
+    return OPERATIONS.compute(Operation.UNION, this, other, ValueTypeDescription::computeUnion);
+  }
+
+  /**
+   * Пересекает описания типов. Для общего типа берется более узкий из квалификаторов: если квалификатор
+   * задан только в одном описании, то он, если один квалификатор содержит другой ({@link Qualifier#contains}),
+   * то вложенный. Тип с несовместимыми квалификаторами в результат не входит, поэтому пересечение
+   * всегда является подмножеством обоих описаний
+   *
+   * @param other Второе описание
+   * @return Описание общих типов
+   */
+  public ValueTypeDescription intersect(ValueTypeDescription other) {
+    if (this == other) {
+      return this;
+    } else if (isEmpty() || other.isEmpty()) {
+      return EMPTY;
+    }
+    return OPERATIONS.compute(Operation.INTERSECT, this, other, ValueTypeDescription::computeIntersect);
+  }
+
+  /**
+   * Исключает из описания типы второго описания. Тип остается в результате, если во втором описании
+   * он ограничен другим квалификатором и покрывает его значения лишь частично
+   *
+   * @param other Исключаемое описание
+   * @return Описание оставшихся типов
+   */
+  public ValueTypeDescription minus(ValueTypeDescription other) {
+    if (this == other) {
+      return EMPTY;
+    } else if (isEmpty() || other.isEmpty()) {
+      return this;
+    }
+    return OPERATIONS.compute(Operation.MINUS, this, other, ValueTypeDescription::computeMinus);
+  }
+
+  /**
+   * Проверяет, что все типы описания входят во второе описание без ограничения квалификатором
+   * либо с квалификатором, содержащим квалификатор типа в этом описании
+   *
+   * @param other Второе описание
+   * @return Признак вхождения
+   */
+  public boolean isSubsetOf(ValueTypeDescription other) {
+    if (this == other || isEmpty()) {
+      return true;
+    }
+    for (var word = 0; word < bits.length; word++) {
+      var otherWord = word < other.bits.length ? other.bits[word] : 0;
+      if ((bits[word] & ~otherWord) != 0) {
+        return false;
+      }
+    }
+    for (var type : otherTypes) {
+      if (!other.containsOther(type)) {
+        return false;
+      }
+    }
+    for (var type : QUALIFIED_TYPES) {
+      if (contains(type)) {
+        var otherQualifier = other.qualifierOf(type);
+        var qualifier = qualifierOf(type);
+        if (otherQualifier != null && (qualifier == null || !otherQualifier.contains(qualifier))) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Проверяет наличие общих типов в описаниях. Квалификаторы не учитываются
+   *
+   * @param other Второе описание
+   * @return Признак наличия общих типов
+   */
+  public boolean overlaps(ValueTypeDescription other) {
+    var words = Math.min(bits.length, other.bits.length);
+    for (var word = 0; word < words; word++) {
+      if ((bits[word] & other.bits[word]) != 0) {
+        return true;
+      }
+    }
+    for (var type : otherTypes) {
+      if (other.containsOther(type)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    return obj instanceof ValueTypeDescription other
+      && hash == other.hash
+      && composite == other.composite
+      && Arrays.equals(bits, other.bits)
+      && Arrays.equals(otherTypes, other.otherTypes)
+      && qualifiers.equals(other.qualifiers);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return "ValueTypeDescription(types=" + getTypes() + ", composite=" + composite + ", qualifiers=" + qualifiers + ")";
   }
 
   /**
@@ -107,7 +286,7 @@ public class ValueTypeDescription {
    * @return Описание типа
    */
   public static ValueTypeDescription create(ValueType type, Qualifier qualifier) {
-    return create(List.of(type), List.of(qualifier));
+    return BUILDERS.get().start().type(type).qualifier(qualifier).build();
   }
 
   /**
@@ -142,9 +321,7 @@ public class ValueTypeDescription {
     if (types.isEmpty()) {
       return EMPTY;
     }
-
-    var composite = types.size() > 1 || types.getFirst() instanceof MDOValueType;
-    return INTERNER.intern(new ValueTypeDescription(types, qualifiers, composite));
+    return BUILDERS.get().start().types(types).qualifiers(qualifiers).build();
   }
 
   /**
@@ -159,7 +336,7 @@ public class ValueTypeDescription {
     if (types.isEmpty()) {
       return EMPTY;
     }
-    return INTERNER.intern(new ValueTypeDescription(types, qualifiers, composite));
+    return BUILDERS.get().start().types(types).qualifiers(qualifiers).composite(composite).build();
   }
 
   /**
@@ -242,9 +419,421 @@ public class ValueTypeDescription {
     return create(types);
   }
 
+  private boolean containsOther(ValueType type) {
+    for (var otherType : otherTypes) {
+      if (otherType.equals(type)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Nullable
+  private Qualifier qualifierOf(ValueType type) {
+    for (var qualifier : qualifiers) {
+      if (qualifier.kind().valueType() == type) {
+        return qualifier;
+      }
+    }
+    return null;
+  }
+
+  private static ValueTypeDescription computeUnion(ValueTypeDescription left, ValueTypeDescription right) {
+    var bits = Arrays.copyOf(left.bits, Math.max(left.bits.length, right.bits.length));
+    for (var word = 0; word < right.bits.length; word++) {
+      bits[word] |= right.bits[word];
+    }
+    var others = new ArrayList<>(Arrays.asList(left.otherTypes));
+    for (var type : right.otherTypes) {
+      if (!left.containsOther(type)) {
+        others.add(type);
+      }
+    }
+    return of(bits, others, combineQualifiers(Operation.UNION, left, right, bits));
+  }
+
+  private static ValueTypeDescription computeIntersect(ValueTypeDescription left, ValueTypeDescription right) {
+    var bits = Arrays.copyOf(left.bits, Math.min(left.bits.length, right.bits.length));
+    for (var word = 0; word < bits.length; word++) {
+      bits[word] &= right.bits[word];
+    }
+    // общий тип с несовместимыми квалификаторами не допускает ни одного значения
+    for (var type : QUALIFIED_TYPES) {
+      var index = ValueTypeBits.indexOf(type);
+      var leftQualifier = left.qualifierOf(type);
+      var rightQualifier = right.qualifierOf(type);
+      if (ValueTypeBits.contains(bits, index) && leftQualifier != null && rightQualifier != null
+        && !leftQualifier.contains(rightQualifier) && !rightQualifier.contains(leftQualifier)) {
+        bits[index / Long.SIZE] &= ~(1L << index);
+      }
+    }
+    var others = new ArrayList<ValueType>();
+    for (var type : left.otherTypes) {
+      if (right.containsOther(type)) {
+        others.add(type);
+      }
+    }
+    return of(bits, others, combineQualifiers(Operation.INTERSECT, left, right, bits));
+  }
+
+  private static ValueTypeDescription computeMinus(ValueTypeDescription left, ValueTypeDescription right) {
+    var bits = left.bits.clone();
+    for (var word = 0; word < Math.min(bits.length, right.bits.length); word++) {
+      bits[word] &= ~right.bits[word];
+    }
+    // тип, ограниченный во втором описании другим квалификатором, исключается лишь частично
+    for (var type : QUALIFIED_TYPES) {
+      var rightQualifier = right.qualifierOf(type);
+      if (left.contains(type) && right.contains(type)
+        && rightQualifier != null && !rightQualifier.equals(left.qualifierOf(type))) {
+        var index = ValueTypeBits.indexOf(type);
+        bits[index / Long.SIZE] |= 1L << index;
+      }
+    }
+    var others = new ArrayList<ValueType>();
+    for (var type : left.otherTypes) {
+      if (!right.containsOther(type)) {
+        others.add(type);
+      }
+    }
+    return of(bits, others, combineQualifiers(Operation.MINUS, left, right, bits));
+  }
+
+  /**
+   * Подбирает квалификаторы результата операции для вошедших в него типов
+   */
+  private static List<Qualifier> combineQualifiers(Operation operation,
+                                                   ValueTypeDescription left,
+                                                   ValueTypeDescription right,
+                                                   long[] bits) {
+    var result = new ArrayList<Qualifier>();
+    for (var type : QUALIFIED_TYPES) {
+      if (!ValueTypeBits.contains(bits, ValueTypeBits.indexOf(type))) {
+        continue;
+      }
+      var leftQualifier = left.qualifierOf(type);
+      var rightQualifier = right.qualifierOf(type);
+      var qualifier = switch (operation) {
+        case UNION -> {
+          if (left.contains(type) && right.contains(type)) {
+            yield Objects.equals(leftQualifier, rightQualifier) ? leftQualifier : null;
+          }
+          yield left.contains(type) ? leftQualifier : rightQualifier;
+        }
+        case INTERSECT -> {
+          if (leftQualifier == null || rightQualifier == null) {
+            yield leftQualifier == null ? rightQualifier : leftQualifier;
+          }
+          // несовместимые квалификаторы исключили тип из результата раньше
+          yield leftQualifier.contains(rightQualifier) ? rightQualifier : leftQualifier;
+        }
+        case MINUS -> leftQualifier;
+      };
+      if (qualifier != null) {
+        result.add(qualifier);
+      }
+    }
+
+    // квалификаторы, не относящиеся к известным типам, переносятся как есть
+    for (var qualifier : left.qualifiers) {
+      if (qualifier.kind().valueType() == null
+        && (operation != Operation.INTERSECT || right.qualifiers.contains(qualifier))) {
+        result.add(qualifier);
+      }
+    }
+    if (operation == Operation.UNION) {
+      for (var qualifier : right.qualifiers) {
+        if (qualifier.kind().valueType() == null) {
+          result.add(qualifier);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Создает интернированное описание по результату операции
+   */
+  private static ValueTypeDescription of(long[] bits, List<ValueType> others, List<Qualifier> qualifiers) {
+    return BUILDERS.get().start().bits(bits).types(others).qualifiers(qualifiers).build();
+  }
+
+  private static int hash(int bitsHash, int otherTypesHash, boolean composite, int qualifiersHash) {
+    var result = 31 * bitsHash + otherTypesHash;
+    result = 31 * result + (composite ? 1 : 0);
+    return 31 * result + qualifiersHash;
+  }
+
+  /**
+   * Порядок квалификаторов в описании: по виду, внутри вида - по ключу упорядочивания.
+   * Представление формируется только для квалификаторов неизвестного вида
+   */
+  private static int compareQualifiers(Qualifier left, Qualifier right) {
+    var kind = left.kind();
+    var kindComparison = kind.compareTo(right.kind());
+    if (kindComparison != 0) {
+      return kindComparison;
+    } else if (kind == QualifierKind.UNKNOWN) {
+      return left.description().compareTo(right.description());
+    }
+    return Long.compare(left.sortKey(), right.sortKey());
+  }
+
+  /**
+   * Собирает список типов слиянием встроенных типов (в порядке номеров) и прочих типов
+   */
+  private List<ValueType> computeTypes() {
+    var size = otherTypes.length;
+    for (var word : bits) {
+      size += Long.bitCount(word);
+    }
+    var result = new ArrayList<ValueType>(size);
+    var other = 0;
+    for (var word = 0; word < bits.length; word++) {
+      var remaining = bits[word];
+      while (remaining != 0) {
+        var type = ValueTypeBits.get(word * Long.SIZE + Long.numberOfTrailingZeros(remaining));
+        while (other < otherTypes.length && otherTypes[other].nameEn().compareTo(type.nameEn()) < 0) {
+          result.add(otherTypes[other++]);
+        }
+        result.add(type);
+        remaining &= remaining - 1;
+      }
+    }
+    while (other < otherTypes.length) {
+      result.add(otherTypes[other++]);
+    }
+    return Collections.unmodifiableList(result);
+  }
+
   private static ValueType createRefType(MdoReference mdoReference) {
-    var parts = mdoReference.getMdoRef().split("\\.");
-    parts[0] += "Ref";
-    return ValueTypes.getOrCompute(String.join(".", parts));
+    var name = mdoReference.appendTo(new StringBuilder(), ScriptVariant.ENGLISH);
+    var typeEnd = name.indexOf(".");
+    name.insert(typeEnd < 0 ? name.length() : typeEnd, "Ref");
+    return ValueTypes.getOrCompute(name.toString());
+  }
+
+  /**
+   * Приводит набор типов и квалификаторов к каноническому виду во внутренних массивах: упорядочивает
+   * и удаляет повторы на месте. Готовое описание ищется в интернере по содержимому массивов, поэтому
+   * экземпляр и его массивы создаются только для нового описания
+   */
+  private static final class Builder {
+    private final long[] bits = new long[ValueTypeBits.WORDS];
+    private ValueType[] otherTypes = new ValueType[8];
+    private Qualifier[] qualifiers = new Qualifier[4];
+    private final Probe probe = new Probe();
+    private int otherCount;
+    private int qualifierCount;
+    private int typeCount;
+    private int bitsLength;
+    private boolean explicitComposite;
+    private boolean composite;
+
+    private Builder start() {
+      Arrays.fill(bits, 0);
+      Arrays.fill(otherTypes, 0, otherCount, null);
+      Arrays.fill(qualifiers, 0, qualifierCount, null);
+      otherCount = 0;
+      qualifierCount = 0;
+      typeCount = 0;
+      explicitComposite = false;
+      return this;
+    }
+
+    private Builder type(ValueType type) {
+      typeCount++;
+      var index = ValueTypeBits.indexOf(type);
+      if (index >= 0) {
+        bits[index / Long.SIZE] |= 1L << index;
+      } else {
+        if (otherCount == otherTypes.length) {
+          otherTypes = Arrays.copyOf(otherTypes, otherCount * 2);
+        }
+        otherTypes[otherCount++] = type;
+      }
+      return this;
+    }
+
+    private Builder types(List<ValueType> types) {
+      for (var i = 0; i < types.size(); i++) {
+        type(types.get(i));
+      }
+      return this;
+    }
+
+    private Builder bits(long[] typeBits) {
+      for (var word = 0; word < typeBits.length; word++) {
+        bits[word] |= typeBits[word];
+        typeCount += Long.bitCount(typeBits[word]);
+      }
+      return this;
+    }
+
+    private Builder qualifier(Qualifier qualifier) {
+      if (Qualifier.EMPTY.equals(qualifier)) {
+        return this;
+      }
+      if (qualifierCount == qualifiers.length) {
+        qualifiers = Arrays.copyOf(qualifiers, qualifierCount * 2);
+      }
+      qualifiers[qualifierCount++] = qualifier;
+      return this;
+    }
+
+    private Builder qualifiers(List<Qualifier> values) {
+      for (var i = 0; i < values.size(); i++) {
+        qualifier(values.get(i));
+      }
+      return this;
+    }
+
+    private Builder composite(boolean value) {
+      explicitComposite = true;
+      composite = value;
+      return this;
+    }
+
+    private ValueTypeDescription build() {
+      if (typeCount == 0) {
+        return EMPTY;
+      }
+      canonicalize();
+      if (!explicitComposite) {
+        // одиночный тип метаданных также считается составным
+        composite = typeCount > 1 || singleType() instanceof MDOValueType;
+      }
+      probe.hash = hash(bitsHash(), otherTypesHash(), composite, qualifiersHash());
+
+      var existing = INTERNER.find(probe);
+      if (existing != null) {
+        return existing;
+      }
+      return INTERNER.intern(new ValueTypeDescription(
+        bitsLength == 0 ? NO_BITS : Arrays.copyOf(bits, bitsLength),
+        otherCount == 0 ? NO_TYPES : Arrays.copyOf(otherTypes, otherCount),
+        qualifierList(),
+        composite));
+    }
+
+    private void canonicalize() {
+      bitsLength = bits.length;
+      while (bitsLength > 0 && bits[bitsLength - 1] == 0) {
+        bitsLength--;
+      }
+      if (otherCount > 1) {
+        Arrays.sort(otherTypes, 0, otherCount, BY_NAME);
+        otherCount = distinct(otherTypes, otherCount);
+      }
+      if (qualifierCount > 1) {
+        Arrays.sort(qualifiers, 0, qualifierCount, QUALIFIER_ORDER);
+        qualifierCount = distinct(qualifiers, qualifierCount);
+      }
+    }
+
+    /**
+     * Удаляет повторы из упорядоченного фрагмента массива. Равные элементы не обязательно соседние,
+     * если у разных элементов совпадает ключ упорядочивания
+     */
+    private static int distinct(Object[] values, int count) {
+      var size = 0;
+      for (var i = 0; i < count; i++) {
+        var value = values[i];
+        var duplicate = false;
+        for (var j = size - 1; j >= 0 && !duplicate; j--) {
+          duplicate = values[j].equals(value);
+        }
+        if (!duplicate) {
+          values[size++] = value;
+        }
+      }
+      Arrays.fill(values, size, count, null);
+      return size;
+    }
+
+    @Nullable
+    private ValueType singleType() {
+      if (otherCount + bitCount() != 1) {
+        return null;
+      } else if (otherCount == 1) {
+        return otherTypes[0];
+      }
+      var word = 0;
+      while (bits[word] == 0) {
+        word++;
+      }
+      return ValueTypeBits.get(word * Long.SIZE + Long.numberOfTrailingZeros(bits[word]));
+    }
+
+    private int bitCount() {
+      var result = 0;
+      for (var word = 0; word < bitsLength; word++) {
+        result += Long.bitCount(bits[word]);
+      }
+      return result;
+    }
+
+    private List<Qualifier> qualifierList() {
+      return switch (qualifierCount) {
+        case 0 -> Collections.emptyList();
+        case 1 -> List.of(qualifiers[0]);
+        case 2 -> List.of(qualifiers[0], qualifiers[1]);
+        default -> List.of(Arrays.copyOf(qualifiers, qualifierCount));
+      };
+    }
+
+    private int bitsHash() {
+      var result = 1;
+      for (var word = 0; word < bitsLength; word++) {
+        result = 31 * result + Long.hashCode(bits[word]);
+      }
+      return result;
+    }
+
+    private int otherTypesHash() {
+      var result = 1;
+      for (var i = 0; i < otherCount; i++) {
+        result = 31 * result + otherTypes[i].hashCode();
+      }
+      return result;
+    }
+
+    private int qualifiersHash() {
+      var result = 1;
+      for (var i = 0; i < qualifierCount; i++) {
+        result = 31 * result + qualifiers[i].hashCode();
+      }
+      return result;
+    }
+
+    /**
+     * Ключ поиска описания в интернере по содержимому построителя
+     */
+    private final class Probe {
+      private int hash;
+
+      @Override
+      public int hashCode() {
+        return hash;
+      }
+
+      @Override
+      public boolean equals(@Nullable Object obj) {
+        if (!(obj instanceof ValueTypeDescription other)
+          || other.hash != hash
+          || other.composite != composite
+          || other.qualifiers.size() != qualifierCount
+          || !Arrays.equals(bits, 0, bitsLength, other.bits, 0, other.bits.length)
+          || !Arrays.equals(otherTypes, 0, otherCount, other.otherTypes, 0, other.otherTypes.length)) {
+          return false;
+        }
+        for (var i = 0; i < qualifierCount; i++) {
+          if (!qualifiers[i].equals(other.qualifiers.get(i))) {
+            return false;
+          }
+        }
+        return true;
+      }
+    }
   }
 }
@@ -21,6 +21,8 @@
  */
 package com.github._1c_syntax.bsl.types;
 
+import com.github._1c_syntax.bsl.cache.CacheMetrics;
+import com.github._1c_syntax.bsl.cache.CacheStatistics;
 import com.github._1c_syntax.bsl.types.value.CustomValueType;
 import com.github._1c_syntax.bsl.types.value.MDOValueType;
 import com.github._1c_syntax.bsl.types.value.PrimitiveValueType;
@@ -28,17 +30,22 @@ import com.github._1c_syntax.bsl.types.value.V8ValueType;
 import lombok.experimental.UtilityClass;
 import org.jspecify.annotations.Nullable;
 
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Помощник получения типа по ключу. Кеширует рассчитанные значения
  */
 @UtilityClass
 public class ValueTypes {
-  private static final Map<String, ValueType> KEYS = computeKeys();
+  private static final CaseInsensitiveIndex<ValueType> KEYS = computeKeys();
+
+  /**
+   * Оценка размера элемента индекса: ключ и узел таблицы (сами типы учитываются своими кэшами)
+   */
+  private static final long ENTRY_BYTES = 32 + 40;
+  private static final CacheMetrics METRICS = CacheStatistics.register("ValueTypes",
+    KEYS::size, () -> KEYS.size() * ENTRY_BYTES);
 
   /**
    * Производит определение типа по переданной строке
@@ -48,7 +55,13 @@ public class ValueTypes {
    */
   @Nullable
   public static ValueType get(String name) {
-    return KEYS.get(name.toLowerCase(Locale.ROOT));
+    var value = KEYS.get(name);
+    if (value == null) {
+      METRICS.recordMiss();
+    } else {
+      METRICS.recordHit();
+    }
+    return value;
   }
 
   /**
@@ -58,27 +71,59 @@ public class ValueTypes {
    * @return Найденное или созданное значение
    */
   public static ValueType getOrCompute(String name) {
-    var enKey = name.toLowerCase(Locale.ROOT);
-    var value = KEYS.get(enKey);
+    var value = KEYS.get(name);
     if (value == null) {
+      METRICS.recordMiss();
       var computed = computeValue(name);
-      var existing = KEYS.putIfAbsent(enKey, computed);
+      var existing = KEYS.putIfAbsent(name, computed);
       if (existing != null) {
+        METRICS.recordContention();
         value = existing;
       } else {
         value = computed;
-        KEYS.putIfAbsent(computed.nameEn().toLowerCase(Locale.ROOT), computed);
-        KEYS.putIfAbsent(computed.nameRu().toLowerCase(Locale.ROOT), computed);
+        KEYS.putIfAbsent(computed.nameEn(), computed);
+        KEYS.putIfAbsent(computed.nameRu(), computed);
       }
+    } else {
+      METRICS.recordHit();
     }
     return value;
   }
 
+  /**
+   * Возвращает типы, рассчитанные методом {@link #getOrCompute(String)}
+   *
+   * @return Типы в произвольном порядке
+   */
+  static List<CustomValueType> computedTypes() {
+    var result = new LinkedHashSet<CustomValueType>();
+    KEYS.forEach((key, value) -> {
+      if (value instanceof CustomValueType customValueType) {
+        result.add(customValueType);
+      }
+    });
+    return List.copyOf(result);
+  }
+
+  /**
+   * Регистрирует ранее рассчитанный тип по его именам. Применяется при чтении снимка реестров
+   *
+   * @param valueType Тип значения
+   * @see RegistrySnapshot
+   */
+  static void restore(CustomValueType valueType) {
+    if (!valueType.nameEn().isBlank()) {
+      KEYS.putIfAbsent(valueType.nameEn(), valueType);
+    }
+    if (!valueType.nameRu().isBlank()) {
+      KEYS.putIfAbsent(valueType.nameRu(), valueType);
+    }
+  }
+
   private static ValueType computeValue(String name) {
     var posDot = name.indexOf(".");
     if (posDot > 0) {
-      var key = name.substring(0, posDot);
-      var baseType = KEYS.get(key.toLowerCase(Locale.ROOT));
+      var baseType = KEYS.get(name, 0, posDot);
       if (baseType instanceof MDOValueType mdoValueType) {
         return CustomValueType.create(mdoValueType.kind(),
           mdoValueType.nameEn() + name.substring(posDot),
@@ -88,12 +133,15 @@ public class ValueTypes {
     return CustomValueType.create(name);
   }
 
-  private static Map<String, ValueType> computeKeys() {
-    Map<String, ValueType> keysMap = new ConcurrentHashMap<>();
+  private static CaseInsensitiveIndex<ValueType> computeKeys() {
+    CaseInsensitiveIndex<ValueType> keysMap = CaseInsensitiveIndex.create();
     List.of(MDOValueType.values(), PrimitiveValueType.values(), V8ValueType.values())
-      .forEach(enums ->
-        keysMap.putAll(EnumWithName.computeKeys(enums))
-      );
+      .forEach(enums -> {
+        for (var element : enums) {
+          keysMap.put(element.nameEn(), element);
+          keysMap.put(element.nameRu(), element);
+        }
+      });
     return keysMap;
   }
 }
@@ -21,10 +21,12 @@
  */
 package com.github._1c_syntax.bsl.types.qualifiers;
 
+import com.github._1c_syntax.bsl.cache.Interner;
 import com.github._1c_syntax.bsl.types.AllowedLength;
 import com.github._1c_syntax.bsl.types.MultiName;
 import com.github._1c_syntax.bsl.types.Qualifier;
-import com.github._1c_syntax.utils.GenericInterner;
+import com.github._1c_syntax.bsl.types.QualifierKind;
+import com.github._1c_syntax.bsl.types.ScriptVariant;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -32,11 +34,13 @@ import lombok.Value;
 import lombok.experimental.Accessors;
 import org.jspecify.annotations.Nullable;
 
+import java.io.IOException;
+
 @Value
 @ToString(of = {"description"})
 @EqualsAndHashCode(of = {"length", "allowedLength"})
 public class BinaryDataQualifiers implements Qualifier, Comparable<BinaryDataQualifiers> {
-  private static final GenericInterner<BinaryDataQualifiers> INTERNER = new GenericInterner<>();
+  private static final Interner<BinaryDataQualifiers> INTERNER = new Interner<>("BinaryDataQualifiers", 24);
 
   /**
    * Длина строки base64
@@ -54,8 +58,8 @@ public class BinaryDataQualifiers implements Qualifier, Comparable<BinaryDataQua
   @Accessors(fluent = true)
   @Getter(lazy = true)
   MultiName description = MultiName.create(
-    "BinaryDataQualifiers (" + length + ", " + getAllowedLength().nameEn() + ")",
-    "КвалификаторыДвоичныхДанных (" + length + ", " + getAllowedLength().nameRu() + ")"
+    appendTo(new StringBuilder(), ScriptVariant.ENGLISH).toString(),
+    appendTo(new StringBuilder(), ScriptVariant.RUSSIAN).toString()
   );
 
   private BinaryDataQualifiers(long length, byte allowedLength) {
@@ -73,6 +77,7 @@ public class BinaryDataQualifiers implements Qualifier, Comparable<BinaryDataQua
    *
    * @param length Длина строки base64
    * @return Квалификатор двоичных данных
+   * @throws IllegalArgumentException если длина отрицательна
    */
   public static BinaryDataQualifiers create(int length) {
     return create((long) length);
@@ -84,9 +89,10 @@ public class BinaryDataQualifiers implements Qualifier, Comparable<BinaryDataQua
    *
    * @param length Длина строки base64
    * @return Квалификатор двоичных данных
+   * @throws IllegalArgumentException если длина отрицательна
    */
   public static BinaryDataQualifiers create(long length) {
-    return INTERNER.intern(new BinaryDataQualifiers(length, (byte) 0));
+    return of(length, (byte) 0);
   }
 
   /**
@@ -95,10 +101,18 @@ public class BinaryDataQualifiers implements Qualifier, Comparable<BinaryDataQua
    * @param length        Длина строки base64
    * @param allowedLength Вариант длины строки
    * @return Квалификатор двоичных данных
+   * @throws IllegalArgumentException если длина отрицательна
    */
   public static BinaryDataQualifiers create(long length, AllowedLength allowedLength) {
     byte code = allowedLength == AllowedLength.FIXED ? (byte) 1 : (byte) 0;
-    return INTERNER.intern(new BinaryDataQualifiers(length, code));
+    return of(length, code);
+  }
+
+  private static BinaryDataQualifiers of(long length, byte allowedLength) {
+    if (length < 0) {
+      throw new IllegalArgumentException("Negative binary data length: " + length);
+    }
+    return INTERNER.intern(new BinaryDataQualifiers(length, allowedLength));
   }
 
   /**
@@ -107,11 +121,49 @@ public class BinaryDataQualifiers implements Qualifier, Comparable<BinaryDataQua
    * @param length        Длина строки base64
    * @param allowedLength Вариант длины строки
    * @return Квалификатор двоичных данных
+   * @throws IllegalArgumentException если длина отрицательна
    */
   public static BinaryDataQualifiers create(int length, AllowedLength allowedLength) {
     return create((long) length, allowedLength);
   }
 
+  @Override
+  public QualifierKind kind() {
+    return QualifierKind.BINARY_DATA;
+  }
+
+  /**
+   * Вариант длины в старших битах, неотрицательная длина (менее 2<sup>62</sup>) - в младших
+   *
+   * @return Ключ упорядочивания
+   */
+  @Override
+  public long sortKey() {
+    return (long) allowedLength << 62 | length;
+  }
+
+  /**
+   * Квалификатор с переменной длиной содержит квалификаторы не большей длины, нулевая длина не ограничивает
+   * значения. Квалификатор с фиксированной длиной содержит только равный ему
+   *
+   * @param other Другой квалификатор
+   * @return Признак вхождения
+   */
+  @Override
+  public boolean contains(Qualifier other) {
+    if (equals(other)) {
+      return true;
+    }
+    return other instanceof BinaryDataQualifiers qualifiers
+      && allowedLength == 0
+      && (length == 0 || (qualifiers.length != 0 && qualifiers.length <= length));
+  }
+
+  @Override
+  public <T extends Appendable> T appendTo(T out, ScriptVariant scriptVariant) {
+    return QualifierText.append(out, this, scriptVariant, BinaryDataQualifiers::appendText);
+  }
+
   @Override
   public int compareTo(@Nullable BinaryDataQualifiers other) {
     if (other == null) {
@@ -123,4 +175,12 @@ public class BinaryDataQualifiers implements Qualifier, Comparable<BinaryDataQua
     int cmp = Byte.compare(this.allowedLength, other.allowedLength);
     return cmp != 0 ? cmp : Long.compare(this.length, other.length);
   }
+
+  private static void appendText(BinaryDataQualifiers qualifier, Appendable out, boolean english) throws IOException {
+    out.append(english ? "BinaryDataQualifiers (" : "КвалификаторыДвоичныхДанных (");
+    QualifierText.appendNumber(out, qualifier.length);
+    out.append(", ")
+      .append(english ? qualifier.getAllowedLength().nameEn() : qualifier.getAllowedLength().nameRu())
+      .append(')');
+  }
 }
@@ -21,10 +21,12 @@
  */
 package com.github._1c_syntax.bsl.types.qualifiers;
 
+import com.github._1c_syntax.bsl.cache.Interner;
 import com.github._1c_syntax.bsl.types.DateFractions;
 import com.github._1c_syntax.bsl.types.MultiName;
 import com.github._1c_syntax.bsl.types.Qualifier;
-import com.github._1c_syntax.utils.GenericInterner;
+import com.github._1c_syntax.bsl.types.QualifierKind;
+import com.github._1c_syntax.bsl.types.ScriptVariant;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -32,11 +34,22 @@ import lombok.Value;
 import lombok.experimental.Accessors;
 import org.jspecify.annotations.Nullable;
 
+import java.io.IOException;
+
 @Value
 @ToString(of = {"description"})
 @EqualsAndHashCode(of = {"dateFractions"})
 public class DateQualifiers implements Qualifier, Comparable<DateQualifiers> {
-  private static final GenericInterner<DateQualifiers> INTERNER = new GenericInterner<>();
+  private static final Interner<DateQualifiers> INTERNER = new Interner<>("DateQualifiers", 24);
+
+  /**
+   * Квалификаторы для всех вариантов частей даты по их коду
+   */
+  private static final DateQualifiers[] FLYWEIGHTS = {
+    INTERNER.intern(new DateQualifiers((byte) 0)),
+    INTERNER.intern(new DateQualifiers((byte) 1)),
+    INTERNER.intern(new DateQualifiers((byte) 2))
+  };
 
   /**
    * Части даты (0 = TIME, 1 = DATE, 2 = DATE_TIME)
@@ -49,8 +62,8 @@ public class DateQualifiers implements Qualifier, Comparable<DateQualifiers> {
   @Accessors(fluent = true)
   @Getter(lazy = true)
   MultiName description = MultiName.create(
-    "DateQualifiers (" + getDateFractions().nameEn() + ")",
-    "КвалификаторыДаты (" + getDateFractions().nameRu() + ")"
+    appendTo(new StringBuilder(), ScriptVariant.ENGLISH).toString(),
+    appendTo(new StringBuilder(), ScriptVariant.RUSSIAN).toString()
   );
 
   private DateQualifiers(byte dateFractions) {
@@ -81,12 +94,44 @@ public class DateQualifiers implements Qualifier, Comparable<DateQualifiers> {
    * @return Квалификатор даты
    */
   public static DateQualifiers create(DateFractions dateFractions) {
-    byte code = switch (dateFractions) {
+    var code = switch (dateFractions) {
       case TIME -> 0;
       case DATE -> 1;
       default -> 2;
     };
-    return INTERNER.intern(new DateQualifiers(code));
+    return FLYWEIGHTS[code];
+  }
+
+  @Override
+  public QualifierKind kind() {
+    return QualifierKind.DATE;
+  }
+
+  /**
+   * Код частей даты
+   *
+   * @return Ключ упорядочивания
+   */
+  @Override
+  public long sortKey() {
+    return dateFractions;
+  }
+
+  /**
+   * Квалификатор даты и времени содержит любой квалификатор даты, остальные - только равный им
+   *
+   * @param other Другой квалификатор
+   * @return Признак вхождения
+   */
+  @Override
+  public boolean contains(Qualifier other) {
+    return other instanceof DateQualifiers
+      && (getDateFractions() == DateFractions.DATE_TIME || equals(other));
+  }
+
+  @Override
+  public <T extends Appendable> T appendTo(T out, ScriptVariant scriptVariant) {
+    return QualifierText.append(out, this, scriptVariant, DateQualifiers::appendText);
   }
 
   @Override
@@ -99,4 +144,10 @@ public class DateQualifiers implements Qualifier, Comparable<DateQualifiers> {
     }
     return Byte.compare(this.dateFractions, other.dateFractions);
   }
+
+  private static void appendText(DateQualifiers qualifier, Appendable out, boolean english) throws IOException {
+    out.append(english ? "DateQualifiers (" : "КвалификаторыДаты (")
+      .append(english ? qualifier.getDateFractions().nameEn() : qualifier.getDateFractions().nameRu())
+      .append(')');
+  }
 }
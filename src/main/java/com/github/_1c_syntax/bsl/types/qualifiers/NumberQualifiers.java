@@ -21,9 +21,11 @@
  */
 package com.github._1c_syntax.bsl.types.qualifiers;
 
+import com.github._1c_syntax.bsl.cache.Interner;
 import com.github._1c_syntax.bsl.types.MultiName;
 import com.github._1c_syntax.bsl.types.Qualifier;
-import com.github._1c_syntax.utils.GenericInterner;
+import com.github._1c_syntax.bsl.types.QualifierKind;
+import com.github._1c_syntax.bsl.types.ScriptVariant;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -31,11 +33,25 @@ import lombok.Value;
 import lombok.experimental.Accessors;
 import org.jspecify.annotations.Nullable;
 
+import java.io.IOException;
+
 @Value
 @ToString(of = {"description"})
 @EqualsAndHashCode(of = {"precision", "scale", "nonNegative"})
 public class NumberQualifiers implements Qualifier, Comparable<NumberQualifiers> {
-  private static final GenericInterner<NumberQualifiers> INTERNER = new GenericInterner<>();
+  private static final Interner<NumberQualifiers> INTERNER = new Interner<>("NumberQualifiers", 24);
+
+  /**
+   * Наибольшие длина и точность, для которых квалификаторы хранятся в массиве
+   */
+  private static final int MAX_CACHED_DIGITS = 38;
+
+  /**
+   * Квалификаторы частых значений по длине, точности и признаку неотрицательности.
+   * Заполняется из интернера при первом обращении
+   */
+  private static final NumberQualifiers[] FLYWEIGHTS =
+    new NumberQualifiers[(MAX_CACHED_DIGITS + 1) * (MAX_CACHED_DIGITS + 1) * 2];
 
   /**
    * Длина числа
@@ -58,8 +74,8 @@ public class NumberQualifiers implements Qualifier, Comparable<NumberQualifiers>
   @Accessors(fluent = true)
   @Getter(lazy = true)
   MultiName description = MultiName.create(
-    "NumberQualifiers (" + precision + "." + scale + (nonNegative ? " nonneg)" : ")"),
-    "КвалификаторыЧисла (" + precision + "." + scale + (nonNegative ? " неотр)" : ")")
+    appendTo(new StringBuilder(), ScriptVariant.ENGLISH).toString(),
+    appendTo(new StringBuilder(), ScriptVariant.RUSSIAN).toString()
   );
 
   /**
@@ -92,9 +108,57 @@ public class NumberQualifiers implements Qualifier, Comparable<NumberQualifiers>
    * @param scale       Точность
    * @param nonNegative Признак неотрицательности
    * @return Квалификатор числа
+   * @throws IllegalArgumentException если длина или точность отрицательны
    */
   public static NumberQualifiers create(int precision, int scale, boolean nonNegative) {
-    return INTERNER.intern(new NumberQualifiers(precision, scale, nonNegative));
+    if (precision < 0 || scale < 0) {
+      throw new IllegalArgumentException("Negative number qualifiers: " + precision + "." + scale);
+    } else if (precision > MAX_CACHED_DIGITS || scale > MAX_CACHED_DIGITS) {
+      return INTERNER.intern(new NumberQualifiers(precision, scale, nonNegative));
+    }
+    var index = (precision * (MAX_CACHED_DIGITS + 1) + scale) * 2 + (nonNegative ? 1 : 0);
+    var result = FLYWEIGHTS[index];
+    return result != null ? result
+      : QualifierText.remember(FLYWEIGHTS, index, INTERNER.intern(new NumberQualifiers(precision, scale, nonNegative)));
+  }
+
+  @Override
+  public QualifierKind kind() {
+    return QualifierKind.NUMBER;
+  }
+
+  /**
+   * Длина в старших 32 битах, затем точность и признак неотрицательности в младшем бите
+   *
+   * @return Ключ упорядочивания
+   */
+  @Override
+  public long sortKey() {
+    return (long) precision << 32 | (long) scale << 1 | (nonNegative ? 1 : 0);
+  }
+
+  /**
+   * Квалификатор содержит другой, если допускает не меньше знаков в целой и дробной частях и не запрещает
+   * отрицательные значения, разрешенные другим. Нулевая длина не ограничивает количество знаков
+   *
+   * @param other Другой квалификатор
+   * @return Признак вхождения
+   */
+  @Override
+  public boolean contains(Qualifier other) {
+    if (!(other instanceof NumberQualifiers qualifiers) || nonNegative && !qualifiers.nonNegative) {
+      return false;
+    } else if (precision == 0) {
+      return true;
+    }
+    return qualifiers.precision != 0
+      && qualifiers.scale <= scale
+      && qualifiers.precision - qualifiers.scale <= precision - scale;
+  }
+
+  @Override
+  public <T extends Appendable> T appendTo(T out, ScriptVariant scriptVariant) {
+    return QualifierText.append(out, this, scriptVariant, NumberQualifiers::appendText);
   }
 
   @Override
@@ -119,4 +183,15 @@ public class NumberQualifiers implements Qualifier, Comparable<NumberQualifiers>
 
     return Boolean.compare(this.nonNegative, qualifiers.isNonNegative());
   }
+
+  private static void appendText(NumberQualifiers qualifier, Appendable out, boolean english) throws IOException {
+    out.append(english ? "NumberQualifiers (" : "КвалификаторыЧисла (");
+    QualifierText.appendNumber(out, qualifier.precision);
+    out.append('.');
+    QualifierText.appendNumber(out, qualifier.scale);
+    if (qualifier.nonNegative) {
+      out.append(english ? " nonneg" : " неотр");
+    }
+    out.append(')');
+  }
 }
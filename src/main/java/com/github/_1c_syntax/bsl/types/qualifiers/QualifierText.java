@@ -0,0 +1,112 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types.qualifiers;
+
+import com.github._1c_syntax.bsl.types.ScriptVariant;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Вспомогательные методы формирования представления и кэширования квалификаторов
+ */
+@UtilityClass
+class QualifierText {
+
+  /**
+   * Дописывает десятичное представление числа. В {@link StringBuilder} число пишется напрямую,
+   * в остальные буферы - по цифрам, без создания строки
+   *
+   * @param out   Буфер либо поток вывода
+   * @param value Число
+   * @throws IOException при ошибке записи в поток вывода
+   */
+  /**
+   * Дописывает представление квалификатора в буфер, преобразуя ошибку записи в {@link UncheckedIOException}
+   *
+   * @param out           Буфер либо поток вывода
+   * @param qualifier     Квалификатор
+   * @param scriptVariant Вариант языка
+   * @param appender      Формирование текста квалификатора
+   * @param <Q>           Тип квалификатора
+   * @param <T>           Тип буфера
+   * @return Переданный буфер
+   */
+  static <Q, T extends Appendable> T append(T out, Q qualifier, ScriptVariant scriptVariant,
+                                           Appender<Q> appender) {
+    try {
+      appender.append(qualifier, out, scriptVariant == ScriptVariant.ENGLISH);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out;
+  }
+
+  /**
+   * Запоминает интернированный квалификатор в массиве частых значений.
+   * Гонка при заполнении ячейки безопасна: интернер вернет всем потокам один экземпляр
+   *
+   * @param flyweights Массив частых значений
+   * @param index      Индекс ячейки
+   * @param interned   Интернированный квалификатор
+   * @param <Q>        Тип квалификатора
+   * @return Переданный квалификатор
+   */
+  static <Q> Q remember(Q[] flyweights, int index, Q interned) {
+    flyweights[index] = interned;
+    return interned;
+  }
+
+  static void appendNumber(Appendable out, long value) throws IOException {
+    if (out instanceof StringBuilder builder) {
+      builder.append(value);
+      return;
+    }
+    // цифры выделяются из отрицательного значения, чтобы не переполнить Long.MIN_VALUE
+    var negative = value;
+    if (value < 0) {
+      out.append('-');
+    } else {
+      negative = -value;
+    }
+    var divisor = 1L;
+    while (negative / divisor <= -10) {
+      divisor *= 10;
+    }
+    while (divisor != 0) {
+      out.append((char) ('0' - negative / divisor));
+      negative %= divisor;
+      divisor /= 10;
+    }
+  }
+
+  /**
+   * Формирование текста квалификатора без создания промежуточных строк
+   *
+   * @param <Q> Тип квалификатора
+   */
+  @FunctionalInterface
+  interface Appender<Q> {
+    void append(Q qualifier, Appendable out, boolean english) throws IOException;
+  }
+}
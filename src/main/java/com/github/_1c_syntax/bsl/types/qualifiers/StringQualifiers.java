@@ -21,10 +21,12 @@
  */
 package com.github._1c_syntax.bsl.types.qualifiers;
 
+import com.github._1c_syntax.bsl.cache.Interner;
 import com.github._1c_syntax.bsl.types.AllowedLength;
 import com.github._1c_syntax.bsl.types.MultiName;
 import com.github._1c_syntax.bsl.types.Qualifier;
-import com.github._1c_syntax.utils.GenericInterner;
+import com.github._1c_syntax.bsl.types.QualifierKind;
+import com.github._1c_syntax.bsl.types.ScriptVariant;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -32,11 +34,23 @@ import lombok.Value;
 import lombok.experimental.Accessors;
 import org.jspecify.annotations.Nullable;
 
+import java.io.IOException;
+
 @Value
 @ToString(of = {"description"})
 @EqualsAndHashCode(of = {"length", "allowedLength"})
 public class StringQualifiers implements Qualifier, Comparable<StringQualifiers> {
-  private static final GenericInterner<StringQualifiers> INTERNER = new GenericInterner<>();
+  private static final Interner<StringQualifiers> INTERNER = new Interner<>("StringQualifiers", 24);
+
+  /**
+   * Количество длин строки, для которых квалификаторы хранятся в массиве
+   */
+  private static final int CACHED_LENGTHS = 1025;
+
+  /**
+   * Квалификаторы частых длин по варианту длины и длине. Заполняется из интернера при первом обращении
+   */
+  private static final StringQualifiers[] FLYWEIGHTS = new StringQualifiers[2 * CACHED_LENGTHS];
 
   /**
    * Длина строки
@@ -54,8 +68,8 @@ public class StringQualifiers implements Qualifier, Comparable<StringQualifiers>
   @Accessors(fluent = true)
   @Getter(lazy = true)
   MultiName description = MultiName.create(
-    "StringQualifiers (" + length + ", " + getAllowedLength().nameEn() + ")",
-    "КвалификаторыСтроки (" + length + ", " + getAllowedLength().nameRu() + ")"
+    appendTo(new StringBuilder(), ScriptVariant.ENGLISH).toString(),
+    appendTo(new StringBuilder(), ScriptVariant.RUSSIAN).toString()
   );
 
   private StringQualifiers(long length, byte allowedLength) {
@@ -71,8 +85,9 @@ public class StringQualifiers implements Qualifier, Comparable<StringQualifiers>
    * Создает квалификатор строки на основании длины строки.
    * Вариант длины - переменный
    *
-   * @param length Длина строки base64
+   * @param length Длина строки
    * @return Квалификатор строки
+   * @throws IllegalArgumentException если длина отрицательна
    */
   public static StringQualifiers create(int length) {
     return create((long) length);
@@ -82,11 +97,12 @@ public class StringQualifiers implements Qualifier, Comparable<StringQualifiers>
    * Создает квалификатор строки на основании длины строки.
    * Вариант длины - переменный
    *
-   * @param length Длина строки base64
+   * @param length Длина строки
    * @return Квалификатор строки
+   * @throws IllegalArgumentException если длина отрицательна
    */
   public static StringQualifiers create(long length) {
-    return INTERNER.intern(new StringQualifiers(length, (byte) 0));
+    return of(length, (byte) 0);
   }
 
   /**
@@ -95,10 +111,11 @@ public class StringQualifiers implements Qualifier, Comparable<StringQualifiers>
    * @param length        Длина строки
    * @param allowedLength Вариант длины строки
    * @return Квалификатор строки
+   * @throws IllegalArgumentException если длина отрицательна
    */
   public static StringQualifiers create(long length, AllowedLength allowedLength) {
     byte code = allowedLength == AllowedLength.FIXED ? (byte) 1 : (byte) 0;
-    return INTERNER.intern(new StringQualifiers(length, code));
+    return of(length, code);
   }
 
   /**
@@ -107,11 +124,61 @@ public class StringQualifiers implements Qualifier, Comparable<StringQualifiers>
    * @param length        Длина строки
    * @param allowedLength Вариант длины строки
    * @return Квалификатор строки
+   * @throws IllegalArgumentException если длина отрицательна
    */
   public static StringQualifiers create(int length, AllowedLength allowedLength) {
     return create((long) length, allowedLength);
   }
 
+  private static StringQualifiers of(long length, byte allowedLength) {
+    if (length < 0) {
+      throw new IllegalArgumentException("Negative string length: " + length);
+    } else if (length >= CACHED_LENGTHS) {
+      return INTERNER.intern(new StringQualifiers(length, allowedLength));
+    }
+    var index = allowedLength * CACHED_LENGTHS + (int) length;
+    var result = FLYWEIGHTS[index];
+    return result != null ? result
+      : QualifierText.remember(FLYWEIGHTS, index, INTERNER.intern(new StringQualifiers(length, allowedLength)));
+  }
+
+  @Override
+  public QualifierKind kind() {
+    return QualifierKind.STRING;
+  }
+
+  /**
+   * Вариант длины в старших битах, неотрицательная длина (менее 2<sup>62</sup>) - в младших
+   *
+   * @return Ключ упорядочивания
+   */
+  @Override
+  public long sortKey() {
+    return (long) allowedLength << 62 | length;
+  }
+
+  /**
+   * Квалификатор с переменной длиной содержит квалификаторы не большей длины, нулевая длина не ограничивает
+   * значения. Квалификатор с фиксированной длиной содержит только равный ему
+   *
+   * @param other Другой квалификатор
+   * @return Признак вхождения
+   */
+  @Override
+  public boolean contains(Qualifier other) {
+    if (equals(other)) {
+      return true;
+    }
+    return other instanceof StringQualifiers qualifiers
+      && allowedLength == 0
+      && (length == 0 || (qualifiers.length != 0 && qualifiers.length <= length));
+  }
+
+  @Override
+  public <T extends Appendable> T appendTo(T out, ScriptVariant scriptVariant) {
+    return QualifierText.append(out, this, scriptVariant, StringQualifiers::appendText);
+  }
+
   @Override
   public int compareTo(@Nullable StringQualifiers other) {
     if (other == null) {
@@ -123,4 +190,12 @@ public class StringQualifiers implements Qualifier, Comparable<StringQualifiers>
     int cmp = Byte.compare(this.allowedLength, other.allowedLength);
     return cmp != 0 ? cmp : Long.compare(this.length, other.length);
   }
+
+  private static void appendText(StringQualifiers qualifier, Appendable out, boolean english) throws IOException {
+    out.append(english ? "StringQualifiers (" : "КвалификаторыСтроки (");
+    QualifierText.appendNumber(out, qualifier.length);
+    out.append(", ")
+      .append(english ? qualifier.getAllowedLength().nameEn() : qualifier.getAllowedLength().nameRu())
+      .append(')');
+  }
 }
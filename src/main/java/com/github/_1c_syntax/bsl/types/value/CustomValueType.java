@@ -21,6 +21,9 @@
  */
 package com.github._1c_syntax.bsl.types.value;
 
+import com.github._1c_syntax.bsl.cache.CacheMetrics;
+import com.github._1c_syntax.bsl.cache.CacheStatistics;
+import com.github._1c_syntax.bsl.types.CaseInsensitiveIndex;
 import com.github._1c_syntax.bsl.types.MDOType;
 import com.github._1c_syntax.bsl.types.MultiName;
 import com.github._1c_syntax.bsl.types.ValueType;
@@ -31,9 +34,8 @@ import lombok.ToString;
 import lombok.experimental.Accessors;
 import org.jspecify.annotations.Nullable;
 
-import java.util.Locale;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 /**
  * Для записи собственных типов данных
@@ -42,7 +44,14 @@ import java.util.concurrent.ConcurrentHashMap;
 @EqualsAndHashCode(of = {"fullName", "variant", "kind"})
 public final class CustomValueType implements ValueType {
 
-  private static final Map<String, CustomValueType> KEYS = new ConcurrentHashMap<>();
+  private static final CaseInsensitiveIndex<CustomValueType> KEYS = CaseInsensitiveIndex.create();
+
+  /**
+   * Оценка размера элемента: ключ, узел таблицы и сам тип
+   */
+  private static final long ENTRY_BYTES = 32 + 40 + 24;
+  private static final CacheMetrics METRICS = CacheStatistics.register("CustomValueType",
+    KEYS::size, () -> KEYS.size() * ENTRY_BYTES);
 
   @Getter
   @Accessors(fluent = true)
@@ -78,8 +87,20 @@ public final class CustomValueType implements ValueType {
    * @return созданный тип
    */
   public static CustomValueType create(String name) {
-    var key = name.toLowerCase(Locale.ROOT);
-    return KEYS.computeIfAbsent(key, k -> new CustomValueType(name));
+    var value = KEYS.get(name);
+    if (value == null) {
+      METRICS.recordMiss();
+      var created = new CustomValueType(name);
+      value = KEYS.putIfAbsent(name, created);
+      if (value == null) {
+        value = created;
+      } else {
+        METRICS.recordContention();
+      }
+    } else {
+      METRICS.recordHit();
+    }
+    return value;
   }
 
   /**
@@ -95,6 +116,7 @@ public final class CustomValueType implements ValueType {
     if (!nameEn.isBlank()) {
       var value = valueByName(nameEn);
       if (value != null) {
+        METRICS.recordHit();
         return value;
       }
     }
@@ -102,22 +124,26 @@ public final class CustomValueType implements ValueType {
     if (!nameRu.isBlank()) {
       var value = valueByName(nameRu);
       if (value != null) {
+        METRICS.recordHit();
         return value;
       }
     }
 
+    METRICS.recordMiss();
     var created = new CustomValueType(kind, nameEn, nameRu);
 
     if (!nameEn.isBlank()) {
-      var existing = KEYS.putIfAbsent(nameEn.toLowerCase(Locale.ROOT), created);
+      var existing = KEYS.putIfAbsent(nameEn, created);
       if (existing != null) {
+        METRICS.recordContention();
         created = existing;
       }
     }
 
     if (!nameRu.isBlank()) {
-      var existing = KEYS.putIfAbsent(nameRu.toLowerCase(Locale.ROOT), created);
+      var existing = KEYS.putIfAbsent(nameRu, created);
       if (existing != null) {
+        METRICS.recordContention();
         created = existing;
       }
     }
@@ -125,6 +151,17 @@ public final class CustomValueType implements ValueType {
     return created;
   }
 
+  /**
+   * Возвращает все ранее созданные типы
+   *
+   * @return Типы в произвольном порядке
+   */
+  public static List<CustomValueType> values() {
+    var result = new LinkedHashSet<CustomValueType>();
+    KEYS.forEach((key, value) -> result.add(value));
+    return List.copyOf(result);
+  }
+
   /**
    * Производит определение типа по переданной строке
    *
@@ -133,6 +170,6 @@ public final class CustomValueType implements ValueType {
    */
   @Nullable
   public static CustomValueType valueByName(String name) {
-    return KEYS.get(name.toLowerCase(Locale.ROOT));
+    return KEYS.get(name);
   }
 }
@@ -31,8 +31,7 @@ import lombok.ToString;
 import lombok.experimental.Accessors;
 import org.jspecify.annotations.Nullable;
 
-import java.util.Locale;
-import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Типы данных, построенные на метаданных конфигурации 1С Предприятие
@@ -103,7 +102,7 @@ public enum MDOValueType implements ValueType {
   TASK_OBJECT(MDOType.TASK, "Object", "Объект"),
   TASK_REF(MDOType.TASK, "Ref", "Ссылка");
 
-  private static final Map<String, MDOValueType> KEYS = EnumWithName.computeKeys(values());
+  private static final Function<CharSequence, @Nullable MDOValueType> KEYS = EnumWithName.computeIndex(values());
 
   @Getter
   @Accessors(fluent = true)
@@ -137,7 +136,7 @@ public enum MDOValueType implements ValueType {
    */
   @Nullable
   public static MDOValueType valueByName(String name) {
-    return KEYS.get(name.toLowerCase(Locale.ROOT));
+    return KEYS.apply(name);
   }
 
   @Override
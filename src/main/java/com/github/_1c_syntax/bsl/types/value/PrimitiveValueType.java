@@ -30,8 +30,7 @@ import lombok.ToString;
 import lombok.experimental.Accessors;
 import org.jspecify.annotations.Nullable;
 
-import java.util.Locale;
-import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Примитивные типы данных
@@ -44,7 +43,7 @@ public enum PrimitiveValueType implements ValueType {
   BOOLEAN("Boolean", "Булево"),
   NULL("Null", "Null");
 
-  private static final Map<String, PrimitiveValueType> KEYS = EnumWithName.computeKeys(values());
+  private static final Function<CharSequence, @Nullable PrimitiveValueType> KEYS = EnumWithName.computeIndex(values());
 
   @Getter
   @Accessors(fluent = true)
@@ -67,6 +66,6 @@ public enum PrimitiveValueType implements ValueType {
    */
   @Nullable
   public static PrimitiveValueType valueByName(String name) {
-    return KEYS.get(name.toLowerCase(Locale.ROOT));
+    return KEYS.apply(name);
   }
 }
@@ -30,8 +30,7 @@ import lombok.ToString;
 import lombok.experimental.Accessors;
 import org.jspecify.annotations.Nullable;
 
-import java.util.Locale;
-import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Типы данных платформы 8
@@ -94,7 +93,7 @@ public enum V8ValueType implements ValueType {
   VALUE_TREE("ValueTree", "ДеревоЗначений"),
   VERTICAL_ALIGN("VerticalAlign", "ВертикальноеПоложение");
 
-  private static final Map<String, V8ValueType> KEYS = EnumWithName.computeKeys(values());
+  private static final Function<CharSequence, @Nullable V8ValueType> KEYS = EnumWithName.computeIndex(values());
 
   @Getter
   @Accessors(fluent = true)
@@ -112,7 +111,7 @@ public enum V8ValueType implements ValueType {
    */
   @Nullable
   public static V8ValueType valueByName(String name) {
-    return KEYS.get(name.toLowerCase(Locale.ROOT));
+    return KEYS.apply(name);
   }
 
   @Override
@@ -0,0 +1,142 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.cache;
+
+import com.github._1c_syntax.bsl.types.MDOType;
+import com.github._1c_syntax.bsl.types.MdoReference;
+import com.github._1c_syntax.bsl.types.MultiLanguageString;
+import com.github._1c_syntax.bsl.types.MultiName;
+import com.github._1c_syntax.bsl.types.ValueTypeDescription;
+import com.github._1c_syntax.bsl.types.ValueTypes;
+import com.github._1c_syntax.bsl.types.qualifiers.BinaryDataQualifiers;
+import com.github._1c_syntax.bsl.types.qualifiers.DateQualifiers;
+import com.github._1c_syntax.bsl.types.qualifiers.NumberQualifiers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CacheStatisticsTest {
+
+  @AfterEach
+  void tearDown() {
+    CacheStatistics.setEnabled(false);
+    CacheStatistics.unregisterMBeans();
+  }
+
+  @Test
+  void testLibraryCaches() {
+    MultiName.create("StatisticsName");
+    MultiLanguageString.create("ru", "Статистика");
+    MdoReference.create(MDOType.CATALOG, "StatisticsCatalog");
+    ValueTypes.getOrCompute("CatalogRef.StatisticsCatalog");
+    ValueTypeDescription.createString(10);
+    BinaryDataQualifiers.create(10);
+    DateQualifiers.create();
+    NumberQualifiers.create(10);
+
+    assertThat(CacheStatistics.snapshot())
+      .extracting(CacheSnapshot::getName)
+      .contains("MdoReference", "MultiName", "MultiLanguageString", "MultiLanguageString.Entry",
+        "MultiLanguageString.values", "ValueTypes", "CustomValueType", "ValueTypeDescription",
+        "StringQualifiers", "NumberQualifiers", "DateQualifiers", "BinaryDataQualifiers")
+      .isSorted();
+
+    var multiName = CacheStatistics.snapshot("MultiName").orElseThrow();
+    assertThat(multiName.getSize()).isPositive();
+    assertThat(multiName.getApproximateBytes()).isPositive();
+
+    var references = CacheStatistics.snapshot("MdoReference").orElseThrow();
+    assertThat(references.getSize()).isPositive();
+    assertThat(references.getApproximateBytes()).isGreaterThan(references.getSize() * 100);
+    assertThat(CacheStatistics.snapshot("Unknown")).isEmpty();
+  }
+
+  @Test
+  void testCounters() {
+    var interner = new Interner<String>("CacheStatisticsTest.counters", 8);
+    interner.intern("disabled");
+    interner.intern("disabled");
+    var snapshot = CacheStatistics.snapshot("CacheStatisticsTest.counters").orElseThrow();
+    assertThat(snapshot.getHits()).isZero();
+    assertThat(snapshot.getMisses()).isZero();
+    assertThat(snapshot.getSize()).isEqualTo(1);
+    assertThat(snapshot.getApproximateBytes()).isEqualTo(48);
+
+    CacheStatistics.setEnabled(true);
+    assertThat(CacheStatistics.isEnabled()).isTrue();
+    interner.intern("enabled");
+    interner.intern("enabled");
+    interner.intern("disabled");
+    snapshot = CacheStatistics.snapshot("CacheStatisticsTest.counters").orElseThrow();
+    assertThat(snapshot.getHits()).isEqualTo(2);
+    assertThat(snapshot.getMisses()).isEqualTo(1);
+    assertThat(snapshot.getContention()).isZero();
+
+    CacheStatistics.reset();
+    snapshot = CacheStatistics.snapshot("CacheStatisticsTest.counters").orElseThrow();
+    assertThat(snapshot.getHits()).isZero();
+    assertThat(snapshot.getMisses()).isZero();
+  }
+
+  @Test
+  void testDuplicateName() {
+    new Interner<String>("CacheStatisticsTest.duplicate", 8);
+    assertThrows(IllegalArgumentException.class, () -> new Interner<String>("CacheStatisticsTest.duplicate", 8));
+  }
+
+  @Test
+  void testMBeans() throws Exception {
+    var server = ManagementFactory.getPlatformMBeanServer();
+    var control = new ObjectName(CacheStatistics.JMX_DOMAIN + ":type=CacheStatistics");
+
+    CacheStatistics.registerMBeans();
+    CacheStatistics.registerMBeans();
+    assertThat(server.isRegistered(control)).isTrue();
+    assertThat(server.getAttribute(control, "Enabled")).isEqualTo(false);
+    server.setAttribute(control, new Attribute("Enabled", true));
+    assertThat(CacheStatistics.isEnabled()).isTrue();
+
+    var multiName = new ObjectName(CacheStatistics.JMX_DOMAIN + ":type=Cache,name=\"MultiName\"");
+    assertThat((Long) server.getAttribute(multiName, "Size")).isPositive();
+
+    Interner.forStrings("CacheStatisticsTest.late");
+    var late = new ObjectName(CacheStatistics.JMX_DOMAIN + ":type=Cache,name=\"CacheStatisticsTest.late\"");
+    assertThat(server.isRegistered(late)).isTrue();
+
+    CacheStatistics.unregisterMBeans();
+    assertThat(server.isRegistered(control)).isFalse();
+    assertThat(server.isRegistered(late)).isFalse();
+  }
+
+  @Test
+  void testApproximateStringBytes() {
+    assertThat(CacheStatistics.approximateBytes("")).isEqualTo(40);
+    assertThat(CacheStatistics.approximateBytes("Catalog")).isEqualTo(48);
+    assertThat(CacheStatistics.approximateBytes("Справочник")).isEqualTo(64);
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternerTest {
+
+  @Test
+  void testIntern() {
+    var interner = new Interner<String>();
+    var first = new String("value");
+    var second = new String("value");
+
+    assertThat(interner.intern(first)).isSameAs(first);
+    assertThat(interner.intern(second)).isSameAs(first);
+    assertThat(interner.size()).isEqualTo(1);
+
+    interner.clear();
+    assertThat(interner.size()).isZero();
+    assertThat(interner.intern(second)).isSameAs(second);
+  }
+
+  @Test
+  void testStrings() {
+    var interner = Interner.forStrings("InternerTest.strings");
+    interner.intern("Catalog");
+    interner.intern("Справочник");
+
+    var snapshot = CacheStatistics.snapshot("InternerTest.strings").orElseThrow();
+    assertThat(snapshot.getSize()).isEqualTo(2);
+    assertThat(snapshot.getApproximateBytes()).isEqualTo(48 + 64 + 2 * 40);
+  }
+
+  @Test
+  void testWeakStrategy() throws InterruptedException {
+    var previous = Interner.getStrategy();
+    Interner.setStrategy(Interner.Strategy.WEAK);
+    try {
+      var interner = new Interner<String>("InternerTest.weak", 24);
+      var first = new String("weak");
+      assertThat(interner.intern(first)).isSameAs(first);
+      assertThat(interner.intern(new String("weak"))).isSameAs(first);
+      assertThat(interner.find(new Probe("weak"))).isSameAs(first);
+      assertThat(interner.find(new Probe("other"))).isNull();
+      assertThat(interner.size()).isEqualTo(1);
+
+      first = null;
+      for (var attempt = 0; attempt < 50 && interner.size() > 0; attempt++) {
+        var garbage = new ArrayList<byte[]>();
+        for (var i = 0; i < 100; i++) {
+          garbage.add(new byte[10_000]);
+        }
+        assertThat(garbage).hasSize(100);
+        System.gc();
+        Thread.sleep(10);
+      }
+      assertThat(interner.size()).isZero();
+      assertThat(interner.find(new Probe("weak"))).isNull();
+
+      var second = new String("weak");
+      assertThat(interner.intern(second)).isSameAs(second);
+    } finally {
+      Interner.setStrategy(previous);
+    }
+  }
+
+  @Test
+  void testNoneStrategy() {
+    var previous = Interner.getStrategy();
+    var interner = new Interner<String>("InternerTest.none", 24);
+    var first = new String("none");
+    var second = new String("none");
+    interner.intern(first);
+
+    Interner.setStrategy(Interner.Strategy.NONE);
+    try {
+      assertThat(Interner.getStrategy()).isEqualTo(Interner.Strategy.NONE);
+      assertThat(interner.size()).isZero();
+      assertThat(interner.intern(second)).isSameAs(second);
+      assertThat(interner.find(first)).isNull();
+      assertThat(interner.size()).isZero();
+    } finally {
+      Interner.setStrategy(previous);
+    }
+    assertThat(interner.intern(second)).isSameAs(second);
+    assertThat(interner.intern(first)).isSameAs(second);
+  }
+
+  @Test
+  void testStrategyProperty() {
+    assertThat(Interner.strategyOf(null)).isEqualTo(Interner.Strategy.STRONG);
+    assertThat(Interner.strategyOf(" ")).isEqualTo(Interner.Strategy.STRONG);
+    assertThat(Interner.strategyOf(" weak ")).isEqualTo(Interner.Strategy.WEAK);
+    assertThat(Interner.strategyOf("None")).isEqualTo(Interner.Strategy.NONE);
+    assertThat(Interner.strategyOf("wek")).isEqualTo(Interner.Strategy.STRONG);
+  }
+
+  @Test
+  void testPrivateInternerKeepsStrongStrategy() {
+    var previous = Interner.getStrategy();
+    var interner = new Interner<String>();
+    var first = new String("private");
+    Interner.setStrategy(Interner.Strategy.NONE);
+    try {
+      assertThat(interner.intern(first)).isSameAs(first);
+      assertThat(interner.intern(new String("private"))).isSameAs(first);
+    } finally {
+      Interner.setStrategy(previous);
+    }
+  }
+
+  /**
+   * Ключ поиска другого типа, равный строке с тем же содержимым
+   */
+  private record Probe(String value) {
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof String string && value.equals(string);
+    }
+
+    @Override
+    public int hashCode() {
+      return value.hashCode();
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffHeapStringPoolTest {
+
+  @Test
+  void testIntern() {
+    var pool = new OffHeapStringPool();
+    var latin = pool.intern("Catalog");
+    var cyrillic = pool.intern(new StringBuilder("Справочник"));
+
+    assertThat(pool.intern(new String("Catalog"))).isSameAs(latin);
+    assertThat(pool.intern("Справочник")).isSameAs(cyrillic);
+    assertThat(pool.intern(latin)).isSameAs(latin);
+    assertThat(pool.size()).isEqualTo(2);
+    assertThat(pool.usedBytes()).isEqualTo(7 + 2 * 10);
+
+    assertThat(latin).hasToString("Catalog");
+    assertThat(latin.encodedBytes()).isEqualTo(7);
+    assertThat(cyrillic).hasToString("Справочник");
+    assertThat(cyrillic.charAt(2)).isEqualTo('р');
+    assertThat(cyrillic.hashCode()).isEqualTo("Справочник".hashCode());
+    assertThat(cyrillic.contentEquals("Справочник")).isTrue();
+    assertThat(CharSequence.compare(cyrillic, "Справочник")).isZero();
+    assertThat(cyrillic.subSequence(0, 3)).hasToString("Спр");
+    assertThrows(StringIndexOutOfBoundsException.class, () -> cyrillic.charAt(10));
+  }
+
+  @Test
+  void testChunks() {
+    var pool = new OffHeapStringPool(8, null);
+    var first = pool.intern("Реквизит");
+    var second = pool.intern("Attribute");
+    var third = pool.intern("Поле");
+
+    assertThat(first).hasToString("Реквизит");
+    assertThat(second).hasToString("Attribute");
+    assertThat(third).hasToString("Поле");
+    assertThat(pool.usedBytes()).isEqualTo(16 + 9 + 8);
+    assertThat(pool.allocatedBytes()).isEqualTo(16 + 9 + 8);
+    assertThrows(IllegalArgumentException.class, () -> new OffHeapStringPool(0, null));
+  }
+
+  @Test
+  void testEqualsAcrossPools() {
+    var first = new OffHeapStringPool().intern("Номенклатура");
+    var second = new OffHeapStringPool().intern("Номенклатура");
+    assertThat(first).isEqualTo(second).isNotSameAs(second);
+    assertThat(first).isNotEqualTo("Номенклатура");
+  }
+
+  @Test
+  void testStatistics() {
+    var pool = new OffHeapStringPool("OffHeapStringPoolTest.strings");
+    pool.intern("Catalog");
+    pool.intern("Catalog");
+
+    var snapshot = CacheStatistics.snapshot("OffHeapStringPoolTest.strings").orElseThrow();
+    assertThat(snapshot.getSize()).isEqualTo(1);
+    assertThat(snapshot.getApproximateBytes()).isEqualTo(7 + 32 + 40);
+  }
+}
@@ -115,4 +115,26 @@ class CompatibilityModeTest {
     assertThat(versionUNK.its83()).isFalse();
   }
 
-}
\ No newline at end of file
+  @Test
+  void testOf() {
+    var version = CompatibilityMode.of("Version_8_3_10");
+    assertThat(version.getMinor()).isEqualTo(3);
+    assertThat(version.getVersion()).isEqualTo(10);
+    assertThat(version)
+      .isSameAs(CompatibilityMode.of("Version_8_3_10"))
+      .isSameAs(CompatibilityMode.of("VERSION_8_3_10"))
+      .isSameAs(CompatibilityMode.of(3, 10))
+      .isEqualTo(new CompatibilityMode("Version_8_3_10"));
+    assertThat(CompatibilityMode.of("DontUse")).isSameAs(CompatibilityMode.of(99, 99));
+    assertThat(CompatibilityMode.of("Version8_1")).isSameAs(CompatibilityMode.of(1, 0));
+  }
+
+  @Test
+  void testKey() {
+    assertThat(new CompatibilityMode(3, 10).getKey()).isEqualTo(3 << 16 | 10);
+    assertThat(CompatibilityMode.of("Version_8_3_24").getKey())
+      .isGreaterThan(CompatibilityMode.of("Version_8_3_9").getKey())
+      .isLessThan(CompatibilityMode.of("Version_8_5_1").getKey())
+      .isLessThan(new CompatibilityMode().getKey());
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompatibilityRangeIndexTest {
+
+  @Test
+  void testEnabled() {
+    var index = CompatibilityRangeIndex.of(List.of(
+      CompatibilityRange.ALL,
+      CompatibilityRange.parse("[8.3.10,)"),
+      CompatibilityRange.parse("(,8.3.6)"),
+      CompatibilityRange.family(3),
+      CompatibilityRange.NONE));
+
+    assertThat(index.size()).isEqualTo(5);
+    assertThat(index.enabled(CompatibilityMode.of(1, 0)).stream()).containsExactly(0, 2);
+    assertThat(index.enabled(CompatibilityMode.of(3, 6)).stream()).containsExactly(0, 3);
+    assertThat(index.enabled(CompatibilityMode.of(3, 24)).stream()).containsExactly(0, 1, 3);
+    assertThat(index.enabled(CompatibilityMode.of("DontUse")).stream()).containsExactly(0, 1);
+    assertThat(index.isEnabled(CompatibilityMode.of(3, 5), 2)).isTrue();
+    assertThat(index.isEnabled(CompatibilityMode.of(3, 5), 1)).isFalse();
+    assertThatThrownBy(() -> index.isEnabled(CompatibilityMode.of(3, 5), 5))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void testMatchesRanges() {
+    var ranges = new ArrayList<CompatibilityRange>();
+    for (var version = 0; version < 100; version++) {
+      ranges.add(CompatibilityRange.of(CompatibilityMode.of(3, version), version % 2 == 0, null, false));
+    }
+    var index = CompatibilityRangeIndex.of(ranges);
+    for (var version = 0; version < 30; version++) {
+      var mode = CompatibilityMode.of(3, version);
+      for (var rule = 0; rule < ranges.size(); rule++) {
+        assertThat(index.isEnabled(mode, rule)).isEqualTo(ranges.get(rule).contains(mode));
+      }
+    }
+  }
+}
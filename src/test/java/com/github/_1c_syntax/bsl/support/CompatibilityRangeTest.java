@@ -0,0 +1,119 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompatibilityRangeTest {
+
+  @Test
+  void testParse() {
+    var range = CompatibilityRange.parse("[8.3.10, 8.3.20)");
+    assertThat(range.contains(CompatibilityMode.of(3, 9))).isFalse();
+    assertThat(range.contains(CompatibilityMode.of(3, 10))).isTrue();
+    assertThat(range.contains(CompatibilityMode.of(3, 19))).isTrue();
+    assertThat(range.contains(CompatibilityMode.of(3, 20))).isFalse();
+
+    range = CompatibilityRange.parse("(8.3.10, 8.3.20]");
+    assertThat(range.contains(CompatibilityMode.of(3, 10))).isFalse();
+    assertThat(range.contains(CompatibilityMode.of(3, 20))).isTrue();
+
+    range = CompatibilityRange.parse("[Version_8_3_10,)");
+    assertThat(range.contains(CompatibilityMode.of("Version_8_3_10"))).isTrue();
+    assertThat(range.contains(CompatibilityMode.of("DontUse"))).isTrue();
+    assertThat(range).isEqualTo(CompatibilityRange.atLeast(CompatibilityMode.of(3, 10)));
+
+    assertThat(CompatibilityRange.parse("(,8.3)")).isEqualTo(CompatibilityRange.lessThan(CompatibilityMode.of(3, 0)));
+    assertThat(CompatibilityRange.parse("(8.2,)")).isEqualTo(CompatibilityRange.atLeast(CompatibilityMode.of(3, 0)));
+    assertThat(CompatibilityRange.parse("[8.3, 8.3]")).isEqualTo(CompatibilityRange.family(3));
+    assertThat(CompatibilityRange.parse("(, 8.2.16]")).isEqualTo(CompatibilityRange.lessThan(CompatibilityMode.of(2, 17)));
+    assertThat(CompatibilityRange.parse("(,)")).isSameAs(CompatibilityRange.ALL);
+    assertThat(CompatibilityRange.parse("")).isSameAs(CompatibilityRange.NONE);
+    assertThat(CompatibilityRange.parse("[8.3.10, 8.3.10)").isEmpty()).isTrue();
+  }
+
+  @Test
+  void testParseUnion() {
+    var range = CompatibilityRange.parse("(, 8.2], [8.3.6, 8.3.10), [8.3.8, 8.5)");
+    assertThat(range.contains(CompatibilityMode.of(1, 0))).isTrue();
+    assertThat(range.contains(CompatibilityMode.of(2, 0))).isTrue();
+    assertThat(range.contains(CompatibilityMode.of(2, 16))).isTrue();
+    assertThat(range.contains(CompatibilityMode.of(3, 0))).isFalse();
+    assertThat(range.contains(CompatibilityMode.of(3, 5))).isFalse();
+    assertThat(range.contains(CompatibilityMode.of(3, 6))).isTrue();
+    assertThat(range.contains(CompatibilityMode.of(3, 24))).isTrue();
+    assertThat(range.contains(CompatibilityMode.of(5, 0))).isFalse();
+    assertThat(range).hasToString("(, 8.3.0), [8.3.6, 8.5.0)");
+    assertThat(CompatibilityRange.parse(range.toString())).isEqualTo(range);
+  }
+
+  @Test
+  void testParseErrors() {
+    assertThatThrownBy(() -> CompatibilityRange.parse("8.3.10"))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> CompatibilityRange.parse("[8.3.10]"))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> CompatibilityRange.parse("[8.3.10, 8.3.20"))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> CompatibilityRange.parse("[8.3.10, 8.3.20) [8.5,)"))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> CompatibilityRange.parse("[7.7, 8.3)"))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> CompatibilityRange.parse("[Version, 8.3)"))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void testFamily() {
+    var modes = new CompatibilityMode[]{
+      CompatibilityMode.of("Version8_1"),
+      CompatibilityMode.of("Version_8_2_16"),
+      CompatibilityMode.of("Version_8_3_10"),
+      CompatibilityMode.of("Version_8_5_1"),
+      CompatibilityMode.of("DontUse")
+    };
+    for (var mode : modes) {
+      assertThat(CompatibilityRange.family(1).contains(mode)).isEqualTo(mode.its81());
+      assertThat(CompatibilityRange.family(2).contains(mode)).isEqualTo(mode.its82());
+      assertThat(CompatibilityRange.family(3).contains(mode)).isEqualTo(mode.its83());
+      assertThat(CompatibilityRange.family(5).contains(mode)).isEqualTo(mode.its85());
+    }
+  }
+
+  @Test
+  void testUnion() {
+    var v83 = CompatibilityRange.family(3);
+    var v85 = CompatibilityRange.family(5);
+    var union = v83.union(v85);
+    assertThat(union.contains(CompatibilityMode.of(3, 1))).isTrue();
+    assertThat(union.contains(CompatibilityMode.of(4, 0))).isFalse();
+    assertThat(union.contains(CompatibilityMode.of(5, 1))).isTrue();
+    assertThat(union).isEqualTo(v85.union(v83));
+    assertThat(v83.union(CompatibilityRange.NONE)).isSameAs(v83);
+    assertThat(CompatibilityRange.NONE.union(v83)).isSameAs(v83);
+    assertThat(v83.union(CompatibilityRange.family(4)).union(v85))
+      .isEqualTo(CompatibilityRange.parse("[8.3, 8.6)"));
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaseInsensitiveIndexTest {
+
+  @Test
+  void testGet() {
+    CaseInsensitiveIndex<String> index = CaseInsensitiveIndex.create();
+    index.put("Catalog", "en");
+    index.put("Справочник", "ru");
+    index.put("ЁлкаЀ", "yo");
+
+    assertThat(index.get("CATALOG")).isEqualTo("en");
+    assertThat(index.get("catalog")).isEqualTo("en");
+    assertThat(index.get("СПРАВОЧНИК")).isEqualTo("ru");
+    assertThat(index.get(new StringBuilder("сПрАвОчНиК"))).isEqualTo("ru");
+    assertThat(index.get("ёлкаѐ")).isEqualTo("yo");
+    assertThat(index.get("Catalogs")).isNull();
+    assertThat(index.getOrDefault("Document", "default")).isEqualTo("default");
+    assertThat(index.size()).isEqualTo(3);
+  }
+
+  @Test
+  void testGetRange() {
+    CaseInsensitiveIndex<String> index = CaseInsensitiveIndex.create();
+    index.put("CatalogRef", "ref");
+
+    assertThat(index.get("CATALOGREF.Товары", 0, 10)).isEqualTo("ref");
+    assertThat(index.get("x.catalogref.y", 2, 12)).isEqualTo("ref");
+    assertThat(index.get("CatalogRef", 0, 7)).isNull();
+  }
+
+  @Test
+  void testPut() {
+    CaseInsensitiveIndex<String> index = CaseInsensitiveIndex.create(4);
+    assertThat(index.putIfAbsent("Name", "first")).isNull();
+    assertThat(index.putIfAbsent("NAME", "second")).isEqualTo("first");
+    assertThat(index.get("name")).isEqualTo("first");
+
+    assertThat(index.put("nAmE", "third")).isEqualTo("first");
+    assertThat(index.get("Name")).isEqualTo("third");
+    assertThat(index.size()).isEqualTo(1);
+  }
+}
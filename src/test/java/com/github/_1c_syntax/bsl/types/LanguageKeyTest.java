@@ -0,0 +1,54 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LanguageKeyTest {
+
+  @Test
+  void testPredefined() {
+    assertThat(LanguageKey.find("ru")).isEqualTo(LanguageKey.RU);
+    assertThat(LanguageKey.find("EN")).isEqualTo(LanguageKey.EN);
+    assertThat(LanguageKey.of(ScriptVariant.RUSSIAN)).isEqualTo(LanguageKey.RU);
+    assertThat(LanguageKey.of(ScriptVariant.ENGLISH)).isEqualTo(LanguageKey.EN);
+    assertThat(LanguageKey.of(ScriptVariant.UNKNOWN)).isEqualTo(LanguageKey.NOT_FOUND);
+    assertThat(LanguageKey.get(LanguageKey.RU)).isEqualTo("ru");
+  }
+
+  @Test
+  void testRegister() {
+    assertThat(LanguageKey.find("test-lang")).isEqualTo(LanguageKey.NOT_FOUND);
+
+    var id = LanguageKey.register("Test-Lang");
+    assertThat(id).isGreaterThan(LanguageKey.EN);
+    assertThat(LanguageKey.register("TEST-LANG")).isEqualTo(id);
+    assertThat(LanguageKey.find(new StringBuilder("test-lang"))).isEqualTo(id);
+    assertThat(LanguageKey.get(id)).isEqualTo("test-lang");
+    assertThat(LanguageKey.size()).isGreaterThan(id);
+
+    assertThrows(IndexOutOfBoundsException.class, () -> LanguageKey.get(LanguageKey.size()));
+  }
+}
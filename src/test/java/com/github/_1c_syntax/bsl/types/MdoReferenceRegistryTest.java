@@ -0,0 +1,246 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import com.github._1c_syntax.bsl.cache.CacheStatistics;
+import com.github._1c_syntax.bsl.cache.OffHeapStringPool;
+import com.github._1c_syntax.bsl.cache.PooledString;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MdoReferenceRegistryTest {
+
+  @Test
+  void testRegistriesAreIsolated() {
+    try (var first = MdoReferenceRegistry.create(); var second = MdoReferenceRegistry.create()) {
+      var ref = first.create(MDOType.CATALOG, "IsolatedObject");
+      assertThat(first.find("Справочник.IsolatedObject")).containsSame(ref);
+      assertThat(second.find("Catalog.IsolatedObject")).isEmpty();
+      assertThat(MdoReference.find("Catalog.IsolatedObject")).isEmpty();
+
+      var child = first.create("Catalog.IsolatedObject.Attribute.Field");
+      assertThat(first.get("Справочник.IsolatedObject.Реквизит.Field")).isSameAs(child);
+      assertThat(second.get("Catalog.IsolatedObject.Attribute.Field")).isSameAs(MdoReference.EMPTY);
+      assertThat(first.size()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void testClose() {
+    var registry = MdoReferenceRegistry.create();
+    registry.create(MDOType.DOCUMENT, "ClosedObject");
+    assertThat(registry.size()).isEqualTo(1);
+
+    registry.close();
+    assertThat(registry.isClosed()).isTrue();
+    assertThat(registry.size()).isZero();
+    assertThat(registry.find("Document.ClosedObject")).isEmpty();
+
+    var exception = assertThrows(IllegalStateException.class,
+      () -> registry.create(MDOType.DOCUMENT, "ClosedObject"));
+    assertThat(exception.getMessage()).isEqualTo("Registry is closed");
+    assertThrows(IllegalStateException.class, () -> MdoReferenceRegistry.install(registry));
+  }
+
+  @Test
+  void testClear() {
+    var registry = MdoReferenceRegistry.create();
+    var ref = registry.create(MDOType.DOCUMENT, "ClearedObject");
+    registry.clear();
+    assertThat(registry.size()).isZero();
+
+    var recreated = registry.create(MDOType.DOCUMENT, "ClearedObject");
+    assertThat(recreated).isEqualTo(ref).isNotSameAs(ref);
+  }
+
+  @Test
+  void testInstallDefault() {
+    var registry = MdoReferenceRegistry.create();
+    var previous = MdoReferenceRegistry.install(registry);
+    try {
+      var ref = MdoReference.create(MDOType.CATALOG, "InstalledObject");
+      assertThat(registry.find("Catalog.InstalledObject")).containsSame(ref);
+      assertThat(previous.find("Catalog.InstalledObject")).isEmpty();
+    } finally {
+      MdoReferenceRegistry.install(previous);
+    }
+    assertThat(MdoReference.find("Catalog.InstalledObject")).isEmpty();
+  }
+
+  @Test
+  void testMetrics() {
+    var registry = MdoReferenceRegistry.create();
+    var previous = MdoReferenceRegistry.install(registry);
+    try {
+      registry.create("Catalog.Metrics.Attribute.Value");
+      registry.create(MDOType.CATALOG, "Metrics");
+      var snapshot = CacheStatistics.snapshot("MdoReference").orElseThrow();
+      assertThat(snapshot.getSize()).isEqualTo(registry.size()).isEqualTo(2);
+      assertThat(snapshot.getApproximateBytes()).isPositive();
+
+      registry.clear();
+      snapshot = CacheStatistics.snapshot("MdoReference").orElseThrow();
+      assertThat(snapshot.getSize()).isZero();
+      assertThat(snapshot.getApproximateBytes()).isZero();
+    } finally {
+      MdoReferenceRegistry.install(previous);
+    }
+  }
+
+  @Test
+  void testCloseInstalledDefault() {
+    var registry = MdoReferenceRegistry.create();
+    var previous = MdoReferenceRegistry.install(registry);
+    try {
+      MdoReference.create(MDOType.CATALOG, "ClosedDefaultObject");
+      registry.close();
+
+      assertThat(MdoReferenceRegistry.getDefault()).isNotSameAs(registry);
+      assertThat(MdoReference.find("Catalog.ClosedDefaultObject")).isEmpty();
+    } finally {
+      MdoReferenceRegistry.install(previous);
+    }
+  }
+
+  @Test
+  void testWeakRetention() throws InterruptedException {
+    try (var registry = MdoReferenceRegistry.create(MdoReferenceRegistry.Retention.WEAK)) {
+      assertThat(registry.getRetention()).isEqualTo(MdoReferenceRegistry.Retention.WEAK);
+
+      var ref = registry.create("Catalog.WeakObject.TabularSection.Rows");
+      assertThat(registry.create(MDOType.CATALOG, "WeakObject")).isNotNull();
+      assertThat(registry.find("Справочник.WeakObject.ТабличнаяЧасть.Rows")).containsSame(ref);
+
+      ref = null;
+      for (var attempt = 0; attempt < 50 && registry.size() > 0; attempt++) {
+        var garbage = new ArrayList<byte[]>();
+        for (var i = 0; i < 100; i++) {
+          garbage.add(new byte[10_000]);
+        }
+        assertThat(garbage).hasSize(100);
+        System.gc();
+        Thread.sleep(10);
+      }
+      assertThat(registry.size()).isZero();
+      assertThat(registry.find("Catalog.WeakObject")).isEmpty();
+    }
+  }
+
+  @Test
+  void testSoftRetentionKeepsReachable() {
+    try (var registry = MdoReferenceRegistry.create(MdoReferenceRegistry.Retention.SOFT)) {
+      var ref = registry.create(MDOType.CATALOG, "SoftObject");
+      assertThat(registry.create("Справочник.SoftObject")).isSameAs(ref);
+      assertThat(registry.get("catalog.softobject")).isSameAs(ref);
+    }
+  }
+
+  @Test
+  void testCreateChildren() {
+    try (var registry = MdoReferenceRegistry.create(MdoReferenceRegistry.Retention.STRONG, 1_000)) {
+      var owner = registry.create(MDOType.DOCUMENT, "Заказ");
+      var existing = registry.create(owner, MDOType.ATTRIBUTE, "Склад");
+
+      var children = registry.createChildren(owner, MDOType.ATTRIBUTE, List.of("Контрагент", "Склад", "Сумма"));
+      assertThat(children)
+        .extracting(MdoReference::getMdoRef)
+        .containsExactly("Document.Заказ.Attribute.Контрагент", "Document.Заказ.Attribute.Склад",
+          "Document.Заказ.Attribute.Сумма");
+      assertThat(children.get(0).getMdoRefRu()).isEqualTo("Документ.Заказ.Реквизит.Контрагент");
+      assertThat(children.get(1)).isSameAs(existing);
+      assertThat(registry.get("Документ.Заказ.Реквизит.Сумма")).isSameAs(children.get(2));
+
+      var standard = registry.createChildren(owner, MDOType.STANDARD_ATTRIBUTE, List.of("Number"));
+      assertThat(standard.getFirst().getMdoRefRu()).isEqualTo("Документ.Заказ.СтандартныйРеквизит.Номер");
+
+      var topLevel = registry.createChildren(null, MDOType.CATALOG, List.of("Товары"));
+      assertThat(topLevel.getFirst()).isSameAs(registry.create(MDOType.CATALOG, "Товары"));
+      assertThat(registry.createChildren(owner, MDOType.ATTRIBUTE, List.of())).isEmpty();
+    }
+  }
+
+  @Test
+  void testCreateChildrenInClosedRegistry() {
+    var registry = MdoReferenceRegistry.create();
+    var owner = registry.create(MDOType.DOCUMENT, "Заказ");
+    registry.close();
+    assertThrows(IllegalStateException.class,
+      () -> registry.createChildren(owner, MDOType.ATTRIBUTE, List.of("Склад")));
+  }
+
+  @Test
+  void testStandardAttributeAliasesRaceToOneInstance() throws Exception {
+    try (var registry = MdoReferenceRegistry.create()) {
+      var owner = registry.create(MDOType.CATALOG, "Aliases");
+      var threadCount = 8;
+      var executor = Executors.newFixedThreadPool(threadCount);
+      try {
+        var barrier = new CyclicBarrier(threadCount);
+        var futures = IntStream.range(0, threadCount)
+          .mapToObj(i -> (Callable<MdoReference>) () -> {
+            barrier.await();
+            return i % 2 == 0
+              ? registry.create(owner, MDOType.STANDARD_ATTRIBUTE, "Code")
+              : registry.create("Справочник.Aliases.СтандартныйРеквизит.Код");
+          })
+          .map(executor::submit)
+          .toList();
+
+        var first = futures.getFirst().get();
+        for (var future : futures) {
+          assertThat(future.get()).isSameAs(first);
+        }
+        assertThat(first.getName()).isEqualTo("Code");
+        assertThat(registry.size()).isEqualTo(2);
+      } finally {
+        executor.shutdown();
+      }
+    }
+  }
+
+  @Test
+  void testStringPool() {
+    var pool = new OffHeapStringPool();
+    try (var registry = MdoReferenceRegistry.create(MdoReferenceRegistry.Retention.STRONG, 16, pool)) {
+      var attribute = registry.create("Catalog.Pooled.Attribute.Цена");
+      var code = registry.create(attribute.getOwner(), MDOType.STANDARD_ATTRIBUTE, "Код");
+
+      assertThat(attribute.nameChars(ScriptVariant.ENGLISH)).isInstanceOf(PooledString.class);
+      assertThat(attribute.getName()).isEqualTo("Цена");
+      assertThat(attribute.getMdoRefRu()).isEqualTo("Справочник.Pooled.Реквизит.Цена");
+      assertThat(code.getMdoRef()).isEqualTo("Catalog.Pooled.StandardAttribute.Code");
+      assertThat(registry.get("справочник.pooled.реквизит.цена")).isSameAs(attribute);
+      assertThat(registry.get("Catalog.Pooled.StandardAttribute.Code")).isSameAs(code);
+      assertThat(attribute).isEqualTo(MdoReference.create("Catalog.Pooled.Attribute.Цена"));
+      assertThat(pool.size()).isEqualTo(4);
+    }
+  }
+}
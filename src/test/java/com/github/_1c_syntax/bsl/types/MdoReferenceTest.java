@@ -23,6 +23,11 @@ package com.github._1c_syntax.bsl.types;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.Executors;
@@ -47,6 +52,30 @@ class MdoReferenceTest {
     assertThat(exception2.getMessage()).isEqualTo("Incorrect full name ");
   }
 
+  @Test
+  void testCreateFromStringIncomplete() {
+    var exception = assertThrows(IllegalArgumentException.class,
+      () -> MdoReference.create("Catalog.test14.Attribute"));
+    assertThat(exception.getMessage()).isEqualTo("Incorrect full name Catalog.test14.Attribute");
+
+    var mdoRef = MdoReference.create("Catalog.test14.Unknown");
+    assertThat(mdoRef.getMdoRef()).isEqualTo("Catalog.test14");
+
+    var mdoRefSkipped = MdoReference.create("Unknown.Part.Catalog.test14.Attribute.Поле");
+    assertThat(mdoRefSkipped.getMdoRef()).isEqualTo("Catalog.test14.Attribute.Поле");
+    assertThat(MdoReferenceRegistry.getDefault().create(new StringBuilder("СПРАВОЧНИК.TEST14.РЕКВИЗИТ.ПОЛЕ")))
+      .isSameAs(mdoRefSkipped);
+  }
+
+  @Test
+  void testCreateChildren() {
+    var owner = MdoReference.create(MDOType.CATALOG, "testChildren");
+    var children = MdoReference.createChildren(owner, MDOType.TABULAR_SECTION, List.of("Товары", "Услуги"));
+    assertThat(children).hasSize(2);
+    assertThat(children.get(1).getMdoRefRu()).isEqualTo("Справочник.testChildren.ТабличнаяЧасть.Услуги");
+    assertThat(MdoReference.create(owner, MDOType.TABULAR_SECTION, "Товары")).isSameAs(children.getFirst());
+  }
+
   @Test
   void testCreateFromString() {
     var mdoRef = MdoReference.create("catalogs.test");
@@ -263,6 +292,75 @@ class MdoReferenceTest {
     assertThat(MdoReference.get("catalog.casegettest")).isSameAs(MdoReference.get("CATALOG.CASEGETTEST"));
   }
 
+  @Test
+  void testOwnerAndParts() {
+    var attribute = MdoReference.create("Catalog.testParts.TabularSection.Товары.Attribute.Цена");
+    var section = attribute.getOwner();
+    var catalog = section.getOwner();
+
+    assertThat(section).isSameAs(MdoReference.get("Catalog.testParts.TabularSection.Товары"));
+    assertThat(catalog).isSameAs(MdoReference.get("Catalog.testParts"));
+    assertThat(catalog.getOwner()).isSameAs(MdoReference.EMPTY);
+    assertThat(attribute.getParts()).containsExactly(catalog, section, attribute);
+    assertThat(attribute.getName()).isEqualTo("Цена");
+    assertThat(MdoReference.EMPTY.getParts()).isEmpty();
+
+    var sibling = MdoReference.create(section, MDOType.ATTRIBUTE, "Количество");
+    assertThat(sibling.getOwner()).isSameAs(section);
+  }
+
+  @Test
+  void testStandardAttributeNames() {
+    var owner = MdoReference.create(MDOType.CATALOG, "testNames");
+    var attr = MdoReference.create(owner, MDOType.STANDARD_ATTRIBUTE, "Description");
+    assertThat(attr.getName()).isEqualTo("Description");
+    assertThat(attr.getNameRu()).isEqualTo("Наименование");
+    assertThat(attr.getName(ScriptVariant.RUSSIAN)).isEqualTo("Наименование");
+    assertThat(MdoReference.get("Справочник.testNames.СтандартныйРеквизит.Наименование")).isSameAs(attr);
+  }
+
+  @Test
+  void testAppendTo() {
+    var ref = MdoReference.create("Document.testAppend.Attribute.Сумма");
+    var builder = new StringBuilder("ref: ");
+    assertThat(ref.appendTo(builder, ScriptVariant.RUSSIAN)).isSameAs(builder);
+    assertThat(builder).hasToString("ref: Документ.testAppend.Реквизит.Сумма");
+    assertThat(ref.appendTo(new StringBuilder(), ScriptVariant.ENGLISH)).hasToString(ref.getMdoRef());
+    assertThat(ref).hasToString("MdoReference(mdoRef=Document.testAppend.Attribute.Сумма)");
+  }
+
+  @Test
+  void testExplicitCreateSharesOwner() {
+    var owner = MdoReference.create(MDOType.CATALOG, "testExplicitOwner");
+    var ref = MdoReference.create(MDOType.ATTRIBUTE,
+      "Catalog.testExplicitOwner.Attribute.Поле", "Справочник.testExplicitOwner.Реквизит.Поле");
+    assertThat(ref.getOwner()).isSameAs(owner);
+    assertThat(ref.getParts()).hasSize(2);
+  }
+
+  @Test
+  void testExplicitCreateWithArbitraryNames() {
+    var ref = MdoReference.create(MDOType.CONFIGURATION, "testArbitrary", "тестПроизвольный");
+    assertThat(ref.getMdoRef()).isEqualTo("testArbitrary");
+    assertThat(ref.getMdoRefRu()).isEqualTo("тестПроизвольный");
+    assertThat(ref.getOwner()).isSameAs(MdoReference.EMPTY);
+    assertThat(ref.getParts()).containsExactly(ref);
+    assertThat(MdoReference.find("TESTARBITRARY")).containsSame(ref);
+    assertThat(MdoReference.find("тестпроизвольный")).containsSame(ref);
+    assertThat(MdoReference.create(MDOType.CONFIGURATION, "testArbitrary", "тестПроизвольный")).isSameAs(ref);
+  }
+
+  @Test
+  void testReferenceFromOtherRegistry() {
+    try (var registry = MdoReferenceRegistry.create()) {
+      var foreignOwner = registry.create("Catalog.testForeign");
+      var child = MdoReference.create(foreignOwner, MDOType.ATTRIBUTE, "Поле");
+      assertThat(child.getOwner()).isNotSameAs(foreignOwner).isEqualTo(foreignOwner);
+      assertThat(child.getOwner()).isSameAs(MdoReference.get("Catalog.testForeign"));
+      assertThat(MdoReference.create(foreignOwner, MDOType.ATTRIBUTE, "поле")).isSameAs(child);
+    }
+  }
+
   @Test
   void testConcurrentCreateSameKeyReturnsSameInstance() throws Exception {
     var threadCount = 16;
@@ -286,4 +384,76 @@ class MdoReferenceTest {
       executor.shutdown();
     }
   }
+
+  @Test
+  void testAppendToFailingOutput() {
+    var ref = MdoReference.create("Catalog.testAppendFailure");
+    var writer = new StringWriter();
+    ref.appendTo(writer, ScriptVariant.RUSSIAN);
+    assertThat(writer).hasToString("Справочник.testAppendFailure");
+
+    var failing = new Writer() {
+      @Override
+      public void write(char[] buffer, int offset, int length) throws IOException {
+        throw new IOException("closed");
+      }
+
+      @Override
+      public void flush() {
+        // нечего сбрасывать
+      }
+
+      @Override
+      public void close() {
+        // нечего закрывать
+      }
+    };
+    var exception = assertThrows(UncheckedIOException.class, () -> ref.appendTo(failing, ScriptVariant.ENGLISH));
+    assertThat(exception).hasCauseInstanceOf(IOException.class);
+  }
+
+  @Test
+  void testCompareToMatchesStringOrder() {
+    try (var registry = MdoReferenceRegistry.create()) {
+      var catalog = registry.create("Catalog.Товары");
+      var references = List.of(
+        catalog,
+        registry.create("Catalog.Товар"),
+        registry.create("Catalog.Товары1"),
+        registry.create("Catalog.Товары.Attribute.Цена"),
+        registry.create("Catalog.Товары.Attribute.Цена1"),
+        registry.create("Catalog.Товары.TabularSection.Цены"),
+        registry.create("Catalog.Товары.TabularSection.Цены.Attribute.Цена"),
+        registry.create("Catalog.Товар.Attribute.Цена"),
+        registry.create("Document.Товары.Attribute.Цена"),
+        registry.create("DocumentJournal.Товары"),
+        registry.create("Document.Товары"),
+        registry.create(catalog, MDOType.STANDARD_ATTRIBUTE, "Code"),
+        registry.create(catalog, MDOType.STANDARD_ATTRIBUTE, "Ref"),
+        registry.create(MDOType.CATALOG, "Catalog.Verbatim", "Справочник.Произвольная"),
+        registry.create(MDOType.CATALOG, "Catalog.Товары.Verbatim", "Справочник.Товары.Произвольная"),
+        MdoReference.EMPTY);
+
+      for (var left : references) {
+        for (var right : references) {
+          var expected = Integer.signum(compareByStrings(left, right));
+          assertThat(Integer.signum(left.compareTo(right)))
+            .as("%s <=> %s", left, right)
+            .isEqualTo(expected);
+        }
+      }
+      assertThat(catalog.compareTo(null)).isPositive();
+    }
+  }
+
+  private static int compareByStrings(MdoReference left, MdoReference right) {
+    if (left.equals(right)) {
+      return 0;
+    }
+    var result = left.getType().compareTo(right.getType());
+    if (result == 0) {
+      result = left.getMdoRef().compareTo(right.getMdoRef());
+    }
+    return result != 0 ? result : left.getMdoRefRu().compareTo(right.getMdoRefRu());
+  }
 }
@@ -57,4 +57,67 @@ class MultiLanguageStringTest {
     var empty = MultiLanguageString.create(Collections.emptyList());
     assertThat(empty).isEqualTo(MultiLanguageString.EMPTY);
   }
-}
\ No newline at end of file
+
+  @Test
+  void testContent() {
+    var value = MultiLanguageString.create(List.of(
+      MultiLanguageString.create("ru", "Товары"),
+      MultiLanguageString.create("en", "Goods"),
+      MultiLanguageString.create("ru", "Товары")));
+
+    assertThat(value.getContent()).containsExactlyInAnyOrder(
+      MultiLanguageString.Entry.create("en", "Goods"),
+      MultiLanguageString.Entry.create("ru", "Товары"));
+    assertThat(value.getAny()).isEqualTo("Goods");
+    assertThat(value.get("kk")).isEmpty();
+    assertThat(value).hasToString("en: Goods, ru: Товары");
+    assertThat(MultiLanguageString.create(value.getContent())).isSameAs(value);
+    assertThat(value.getContent()).isSameAs(value.getContent());
+    assertThat(MultiLanguageString.EMPTY.getContent()).isEmpty();
+    assertThat(MultiLanguageString.EMPTY).hasToString("empty");
+  }
+
+  @Test
+  void testCompareTo() {
+    var ru = MultiLanguageString.create("ru", "Б");
+    var ruEn = MultiLanguageString.create(ru, MultiLanguageString.create("en", "B"));
+    var ruEnOther = MultiLanguageString.create(MultiLanguageString.create("ru", "А"),
+      MultiLanguageString.create("en", "B"));
+
+    assertThat(ru.compareTo(null)).isPositive();
+    assertThat(ru.compareTo(ru)).isZero();
+    assertThat(ru.compareTo(ruEn)).isNegative();
+    assertThat(ruEn.compareTo(ru)).isPositive();
+    assertThat(ruEn.compareTo(ruEnOther)).isPositive();
+    assertThat(ruEnOther.compareTo(ruEn)).isNegative();
+    assertThat(MultiLanguageString.EMPTY.compareTo(ru)).isNegative();
+  }
+
+  @Test
+  void testGetByLanguageId() {
+    var value = MultiLanguageString.create(MultiLanguageString.create("RU", "Товары"),
+      MultiLanguageString.create("en", "Goods"));
+
+    assertThat(value.get(LanguageKey.RU)).isEqualTo("Товары");
+    assertThat(value.get(LanguageKey.EN)).isEqualTo("Goods");
+    assertThat(value.get(LanguageKey.NOT_FOUND)).isEmpty();
+    assertThat(value.get(ScriptVariant.RUSSIAN)).isEqualTo("Товары");
+    assertThat(value.get(ScriptVariant.ENGLISH)).isEqualTo("Goods");
+    assertThat(value.get(ScriptVariant.UNKNOWN)).isEmpty();
+    assertThat(value.get("unregistered-lang")).isEmpty();
+
+    assertThat(MultiLanguageString.create(value, MultiLanguageString.create("ru", "Товары"))).isSameAs(value);
+    assertThat(MultiLanguageString.Entry.create("RU", "Товары").getLangKey()).isEqualTo("ru");
+    assertThat(MultiLanguageString.Entry.create("RU", "Товары").getLangId()).isEqualTo(LanguageKey.RU);
+  }
+
+  @Test
+  void testAppendTo() {
+    var value = MultiLanguageString.create(
+      MultiLanguageString.create("ru", "Товары"), MultiLanguageString.create("en", "Goods"));
+    var builder = new StringBuilder("> ");
+    assertThat(value.appendTo(builder, ScriptVariant.RUSSIAN)).isSameAs(builder);
+    assertThat(builder).hasToString("> Товары");
+    assertThat(value.appendTo(new StringBuilder(), ScriptVariant.ENGLISH)).hasToString("Goods");
+  }
+}
@@ -99,4 +99,44 @@ class MultiNameTest {
     assertThat(value.compareTo(value2)).isEqualTo(-3);
     assertThat(value2.compareTo(value3)).isEqualTo(-1);
   }
-}
\ No newline at end of file
+
+  @Test
+  void testInterned() {
+    var single = MultiName.create("Номенклатура");
+    assertThat(MultiName.create("Номенклатура")).isSameAs(single);
+    assertThat(MultiName.create("", "Номенклатура")).isSameAs(single);
+
+    var pair = MultiName.create("Products", "Номенклатура");
+    assertThat(MultiName.create("Products", "Номенклатура")).isSameAs(pair);
+    assertThat(pair).isNotEqualTo(single);
+    assertThat(pair.get()).isEqualTo("Products");
+    assertThat(pair.getRu()).isEqualTo("Номенклатура");
+
+    // одинаковая строка на разных языках дает разные имена
+    var english = MultiName.create("Name", "");
+    var forcedRussian = MultiName.create("Name", "Name");
+    assertThat(forcedRussian).isNotEqualTo(english);
+    assertThat(english.getRu()).isEmpty();
+    assertThat(forcedRussian.getRu()).isEqualTo("Name");
+  }
+
+  @Test
+  void testCyrillicRanges() {
+    for (var c = 0; c <= Character.MAX_VALUE; c++) {
+      var expected = Character.UnicodeScript.of(c) == Character.UnicodeScript.CYRILLIC;
+      assertThat(MultiName.isCyrillic((char) c))
+        .as("U+%04X", c)
+        .isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void testAppendTo() {
+    var value = MultiName.create("Products", "Номенклатура");
+    var builder = new StringBuilder("name: ");
+    assertThat(value.appendTo(builder, ScriptVariant.RUSSIAN)).isSameAs(builder);
+    assertThat(builder).hasToString("name: Номенклатура");
+    assertThat(value.appendTo(new StringBuilder(), ScriptVariant.ENGLISH)).hasToString("Products");
+    assertThat(MultiName.create("Товары").appendTo(new StringBuilder(), ScriptVariant.ENGLISH)).isEmpty();
+  }
+}
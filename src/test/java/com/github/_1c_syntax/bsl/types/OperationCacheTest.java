@@ -0,0 +1,97 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import com.github._1c_syntax.bsl.cache.Interner;
+import com.github._1c_syntax.bsl.types.OperationCache.Operation;
+import com.github._1c_syntax.bsl.types.value.PrimitiveValueType;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OperationCacheTest {
+
+  @Test
+  void testCompute() {
+    var cache = new OperationCache("OperationCacheTest.compute", 4);
+    var string = ValueTypeDescription.create(PrimitiveValueType.STRING);
+    var number = ValueTypeDescription.create(PrimitiveValueType.NUMBER);
+    var calls = new AtomicInteger();
+
+    var first = cache.compute(Operation.UNION, string, number, (left, right) -> {
+      calls.incrementAndGet();
+      return left.union(right);
+    });
+    var second = cache.compute(Operation.UNION, string, number, (left, right) -> {
+      calls.incrementAndGet();
+      return left.union(right);
+    });
+    assertThat(second).isSameAs(first);
+    assertThat(calls).hasValue(1);
+    assertThat(cache.size()).isEqualTo(1);
+
+    cache.compute(Operation.INTERSECT, string, number, (left, right) -> {
+      calls.incrementAndGet();
+      return left.intersect(right);
+    });
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void testBounded() {
+    var cache = new OperationCache("OperationCacheTest.bounded", 2);
+    var base = ValueTypeDescription.create(PrimitiveValueType.STRING);
+    for (var i = 0; i < 100; i++) {
+      cache.compute(Operation.UNION, base, ValueTypeDescription.createNumber(i), ValueTypeDescription::union);
+    }
+    assertThat(cache.size()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void testNotStrongStrategy() {
+    var cache = new OperationCache("OperationCacheTest.strategy", 4);
+    var string = ValueTypeDescription.create(PrimitiveValueType.STRING);
+    var number = ValueTypeDescription.create(PrimitiveValueType.NUMBER);
+    cache.compute(Operation.UNION, string, number, ValueTypeDescription::union);
+    assertThat(cache.size()).isEqualTo(1);
+
+    var previous = Interner.getStrategy();
+    Interner.setStrategy(Interner.Strategy.WEAK);
+    try {
+      assertThat(cache.size()).isZero();
+      cache.compute(Operation.UNION, string, number, ValueTypeDescription::union);
+      assertThat(cache.size()).isZero();
+    } finally {
+      Interner.setStrategy(previous);
+    }
+    cache.compute(Operation.UNION, string, number, ValueTypeDescription::union);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void testCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new OperationCache("OperationCacheTest.capacity", 3));
+  }
+}
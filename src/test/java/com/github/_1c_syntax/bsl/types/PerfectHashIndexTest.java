@@ -0,0 +1,80 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerfectHashIndexTest {
+
+  @Test
+  void testGet() {
+    CaseInsensitiveIndex<String> source = CaseInsensitiveIndex.create();
+    source.put("Catalog", "en");
+    source.put("Справочник", "ru");
+    source.put("Catalogs", "plural");
+    var index = PerfectHashIndex.copyOf(source);
+
+    assertThat(index.size()).isEqualTo(3);
+    assertThat(index.get("CATALOG")).isEqualTo("en");
+    assertThat(index.get("справочник")).isEqualTo("ru");
+    assertThat(index.get(new StringBuilder("catalogS"))).isEqualTo("plural");
+    assertThat(index.get("x.Catalog.y", 2, 9)).isEqualTo("en");
+    assertThat(index.get("Catalo")).isNull();
+    assertThat(index.get("Document")).isNull();
+    assertThat(index.getOrDefault("Документ", "default")).isEqualTo("default");
+  }
+
+  @Test
+  void testEmpty() {
+    var index = PerfectHashIndex.copyOf(CaseInsensitiveIndex.<String>create());
+    assertThat(index.size()).isZero();
+    assertThat(index.get("Catalog")).isNull();
+  }
+
+  @Test
+  void testLargeKeySet() {
+    CaseInsensitiveIndex<Integer> source = CaseInsensitiveIndex.create();
+    for (var i = 0; i < 20_000; i++) {
+      source.put("Реквизит" + i, i);
+    }
+    var index = PerfectHashIndex.copyOf(source);
+    for (var i = 0; i < 20_000; i++) {
+      assertThat(index.get("РЕКВИЗИТ" + i)).isEqualTo(i);
+    }
+    assertThat(index.get("Реквизит20000")).isNull();
+  }
+
+  @Test
+  void testAllMdoTypeNames() {
+    for (var type : MDOType.values()) {
+      if (type == MDOType.UNKNOWN) {
+        continue;
+      }
+      assertThat(MDOType.valueByName(type.nameEn().toUpperCase())).isEqualTo(type);
+      assertThat(MDOType.valueByName(type.groupName())).isEqualTo(type);
+      assertThat(MDOType.valueByName(type.nameRu().toLowerCase())).isEqualTo(type);
+      assertThat(MDOType.valueByName(type.groupNameRu())).isEqualTo(type);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegistrySnapshotTest {
+
+  private static final long SOURCE_HASH = 0x1C1C1C1CL;
+  private static final int HEADER_BYTES = 28;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void testWriteAndRead() throws Exception {
+    var path = directory.resolve("registry.bin");
+    try (var source = MdoReferenceRegistry.create()) {
+      var attribute = source.create("Catalog.Snapshot.TabularSection.Товары.Attribute.Цена");
+      source.create(attribute.getOwner(), MDOType.ATTRIBUTE, "Количество");
+      source.create(attribute.getOwner().getOwner(), MDOType.STANDARD_ATTRIBUTE, "Code");
+      source.create(MDOType.CONFIGURATION, "SnapshotConfiguration", "КонфигурацияСнимка");
+      ValueTypes.getOrCompute("CatalogRef.Snapshot");
+      RegistrySnapshot.write(path, source, SOURCE_HASH);
+
+      try (var restored = MdoReferenceRegistry.create()) {
+        assertThat(RegistrySnapshot.read(path, restored, SOURCE_HASH)).isTrue();
+        assertThat(restored.size()).isEqualTo(source.size());
+
+        var restoredAttribute = restored.get("Справочник.Snapshot.ТабличнаяЧасть.Товары.Реквизит.Цена");
+        assertThat(restoredAttribute).isEqualTo(attribute).isNotSameAs(attribute);
+        assertThat(restoredAttribute.getOwner()).isSameAs(restored.get("Catalog.Snapshot.TabularSection.Товары"));
+        assertThat(restored.get("Справочник.Snapshot.СтандартныйРеквизит.Код").getMdoRef())
+          .isEqualTo("Catalog.Snapshot.StandardAttribute.Code");
+        assertThat(restored.get("КонфигурацияСнимка").getMdoRef()).isEqualTo("SnapshotConfiguration");
+        assertThat(ValueTypes.get("СправочникСсылка.Snapshot")).isNotNull();
+      }
+    }
+  }
+
+  @Test
+  void testRejectsStaleSnapshot() throws Exception {
+    var path = directory.resolve("stale.bin");
+    try (var source = MdoReferenceRegistry.create()) {
+      source.create("Catalog.Stale");
+      RegistrySnapshot.write(path, source, SOURCE_HASH);
+    }
+
+    try (var restored = MdoReferenceRegistry.create()) {
+      assertThat(RegistrySnapshot.read(path, restored, SOURCE_HASH + 1)).isFalse();
+      assertThat(restored.size()).isZero();
+    }
+  }
+
+  @Test
+  void testRejectsCorruptedSnapshot() throws Exception {
+    var path = directory.resolve("corrupted.bin");
+    try (var source = MdoReferenceRegistry.create()) {
+      source.create("Catalog.Corrupted");
+      RegistrySnapshot.write(path, source, SOURCE_HASH);
+    }
+    var bytes = Files.readAllBytes(path);
+    bytes[bytes.length - 1] ^= 0x7F;
+    Files.write(path, bytes);
+
+    try (var restored = MdoReferenceRegistry.create()) {
+      assertThat(RegistrySnapshot.read(path, restored, SOURCE_HASH)).isFalse();
+      assertThat(restored.size()).isZero();
+    }
+  }
+
+  @Test
+  void testRejectsMalformedSnapshotWithValidChecksum() throws Exception {
+    var path = directory.resolve("malformed.bin");
+    try (var source = MdoReferenceRegistry.create()) {
+      source.create("Catalog.Malformed.Attribute.Truncated");
+      RegistrySnapshot.write(path, source, SOURCE_HASH);
+    }
+    // содержимое обрезано на один байт, длина и контрольная сумма пересчитаны
+    var bytes = Files.readAllBytes(path);
+    var buffer = ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 1));
+    var checksum = new CRC32C();
+    checksum.update(buffer.slice(HEADER_BYTES, buffer.capacity() - HEADER_BYTES));
+    buffer.putInt(12, (int) checksum.getValue());
+    buffer.putInt(24, buffer.capacity() - HEADER_BYTES);
+    Files.write(path, buffer.array());
+
+    try (var restored = MdoReferenceRegistry.create()) {
+      assertThat(RegistrySnapshot.read(path, restored, SOURCE_HASH)).isFalse();
+      assertThat(restored.size()).isZero();
+    }
+  }
+
+  @Test
+  void testMissingSnapshot() throws Exception {
+    try (var restored = MdoReferenceRegistry.create()) {
+      assertThat(RegistrySnapshot.read(directory.resolve("missing.bin"), restored, SOURCE_HASH)).isFalse();
+    }
+  }
+}
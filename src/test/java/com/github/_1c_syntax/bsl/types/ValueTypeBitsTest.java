@@ -0,0 +1,68 @@
+/*
+ * This file is a part of BSL Common library.
+ *
+ * Copyright (c) 2021 - 2026
+ * Tymko Oleg <olegtymko@yandex.ru>, Maximov Valery <maximovvalery@gmail.com> and contributors
+ *
+ * SPDX-License-Identifier: LGPL-3.0-or-later
+ *
+ * BSL Common library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3.0 of the License, or (at your option) any later version.
+ *
+ * BSL Common library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with BSL Common library.
+ */
+package com.github._1c_syntax.bsl.types;
+
+import com.github._1c_syntax.bsl.types.value.CustomValueType;
+import com.github._1c_syntax.bsl.types.value.MDOValueType;
+import com.github._1c_syntax.bsl.types.value.PrimitiveValueType;
+import com.github._1c_syntax.bsl.types.value.V8ValueType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValueTypeBitsTest {
+
+  @Test
+  void testIndexes() {
+    var indexes = new HashSet<Integer>();
+    Stream.of(PrimitiveValueType.values(), V8ValueType.values(), MDOValueType.values())
+      .flatMap(Stream::of)
+      .forEach(type -> {
+        var index = ValueTypeBits.indexOf(type);
+        assertThat(ValueTypeBits.get(index)).isSameAs(type);
+        assertThat(indexes.add(index)).isTrue();
+      });
+    assertThat(indexes).hasSize(ValueTypeBits.size());
+    assertThat(ValueTypeBits.WORDS * Long.SIZE).isGreaterThanOrEqualTo(ValueTypeBits.size());
+    assertThat(ValueTypeBits.indexOf(CustomValueType.create("testBitsCustom"))).isEqualTo(-1);
+  }
+
+  @Test
+  void testOrderedByName() {
+    for (var i = 1; i < ValueTypeBits.size(); i++) {
+      assertThat(ValueTypeBits.get(i - 1).nameEn()).isLessThanOrEqualTo(ValueTypeBits.get(i).nameEn());
+    }
+  }
+
+  @Test
+  void testContains() {
+    var index = ValueTypeBits.indexOf(V8ValueType.VALUE_STORAGE);
+    var bits = new long[ValueTypeBits.WORDS];
+    bits[index / Long.SIZE] |= 1L << index;
+    assertThat(ValueTypeBits.contains(bits, index)).isTrue();
+    assertThat(ValueTypeBits.contains(bits, ValueTypeBits.indexOf(PrimitiveValueType.NUMBER))).isFalse();
+    assertThat(ValueTypeBits.contains(new long[0], index)).isFalse();
+  }
+}
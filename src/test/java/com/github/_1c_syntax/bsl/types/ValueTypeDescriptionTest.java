@@ -21,7 +21,10 @@
  */
 package com.github._1c_syntax.bsl.types;
 
+import com.github._1c_syntax.bsl.types.qualifiers.BinaryDataQualifiers;
 import com.github._1c_syntax.bsl.types.qualifiers.DateQualifiers;
+import com.github._1c_syntax.bsl.types.qualifiers.NumberQualifiers;
+import com.github._1c_syntax.bsl.types.qualifiers.StringQualifiers;
 import com.github._1c_syntax.bsl.types.value.CustomValueType;
 import com.github._1c_syntax.bsl.types.value.MDOValueType;
 import com.github._1c_syntax.bsl.types.value.PrimitiveValueType;
@@ -252,4 +255,186 @@ class ValueTypeDescriptionTest {
       ValueTypeDescription.create(List.of(PrimitiveValueType.STRING, PrimitiveValueType.NUMBER))
     );
   }
-}
\ No newline at end of file
+
+  @Test
+  void testContainsAndOrder() {
+    var custom = ValueTypes.getOrCompute("CatalogRef.testBitsOrder");
+    var vtd = ValueTypeDescription.create(List.of(
+      V8ValueType.VALUE_STORAGE, custom, PrimitiveValueType.STRING, MDOValueType.ANY_REF, PrimitiveValueType.STRING));
+
+    assertThat(vtd.contains(PrimitiveValueType.STRING)).isTrue();
+    assertThat(vtd.contains(V8ValueType.VALUE_STORAGE)).isTrue();
+    assertThat(vtd.contains(MDOValueType.ANY_REF)).isTrue();
+    assertThat(vtd.contains(custom)).isTrue();
+    assertThat(vtd.contains(PrimitiveValueType.NUMBER)).isFalse();
+    assertThat(vtd.contains(V8ValueType.FIXED_ARRAY)).isFalse();
+    assertThat(vtd.contains(ValueTypes.getOrCompute("CatalogRef.testBitsMissing"))).isFalse();
+
+    assertThat(vtd.getTypes())
+      .containsExactly(MDOValueType.ANY_REF, custom, PrimitiveValueType.STRING, V8ValueType.VALUE_STORAGE);
+    assertThat(ValueTypeDescription.create(List.of(
+      custom, MDOValueType.ANY_REF, V8ValueType.VALUE_STORAGE, PrimitiveValueType.STRING))).isSameAs(vtd);
+  }
+
+  @Test
+  void testUnion() {
+    var string = ValueTypeDescription.createString(10);
+    var number = ValueTypeDescription.createNumber(5);
+    var ref = ValueTypeDescription.createRef(MDOType.CATALOG, "testUnion");
+
+    var union = string.union(number).union(ref);
+    assertThat(union.isComposite()).isTrue();
+    assertThat(union.getQualifiers()).containsExactlyInAnyOrder(StringQualifiers.create(10), NumberQualifiers.create(5));
+    assertThat(union).isSameAs(ValueTypeDescription.create(
+      List.of(PrimitiveValueType.STRING, PrimitiveValueType.NUMBER, ref.getTypes().get(0)),
+      List.of(StringQualifiers.create(10), NumberQualifiers.create(5))));
+    assertThat(ref.union(number).union(string)).isSameAs(union);
+    assertThat(union.union(string)).isSameAs(union);
+    assertThat(string.union(ValueTypeDescription.EMPTY)).isSameAs(string);
+    assertThat(ValueTypeDescription.EMPTY.union(string)).isSameAs(string);
+
+    // разные квалификаторы одного типа снимают ограничение
+    var wider = string.union(ValueTypeDescription.createString(20));
+    assertThat(wider.getTypes()).containsExactly(PrimitiveValueType.STRING);
+    assertThat(wider.getQualifiers()).isEmpty();
+  }
+
+  @Test
+  void testIntersect() {
+    var ref = ValueTypeDescription.createRef(MDOType.CATALOG, "testIntersect").getTypes().get(0);
+    var left = ValueTypeDescription.create(
+      List.of(PrimitiveValueType.STRING, PrimitiveValueType.NUMBER, ref), List.of(NumberQualifiers.create(10, 2)));
+    var right = ValueTypeDescription.create(
+      List.of(PrimitiveValueType.STRING, PrimitiveValueType.DATE, ref), List.of(StringQualifiers.create(50)));
+
+    var intersection = left.intersect(right);
+    assertThat(intersection.getTypes()).containsExactly(ref, PrimitiveValueType.STRING);
+    assertThat(intersection.getQualifiers()).containsExactly(StringQualifiers.create(50));
+    assertThat(right.intersect(left)).isSameAs(intersection);
+
+    assertThat(ValueTypeDescription.createString(10).intersect(ValueTypeDescription.createNumber(10)))
+      .isSameAs(ValueTypeDescription.EMPTY);
+    assertThat(left.intersect(ValueTypeDescription.EMPTY)).isSameAs(ValueTypeDescription.EMPTY);
+    assertThat(left.intersect(left)).isSameAs(left);
+
+    var single = ValueTypeDescription.create(List.of(ref, PrimitiveValueType.STRING))
+      .intersect(ValueTypeDescription.create(List.of(ref, PrimitiveValueType.DATE)));
+    assertThat(single.getTypes()).containsExactly(ref);
+    assertThat(single.isComposite()).isFalse();
+
+    // пересечение с разными квалификаторами не шире ни одного из описаний
+    var conflicts = List.of(
+      List.of(ValueTypeDescription.createString(10), ValueTypeDescription.createString(20)),
+      List.of(ValueTypeDescription.createString(10),
+        ValueTypeDescription.createString(10, AllowedLength.FIXED)),
+      List.of(ValueTypeDescription.createString(10, AllowedLength.FIXED),
+        ValueTypeDescription.createString(20, AllowedLength.FIXED)),
+      List.of(ValueTypeDescription.create(PrimitiveValueType.NUMBER, NumberQualifiers.create(10, 2)),
+        ValueTypeDescription.create(PrimitiveValueType.NUMBER, NumberQualifiers.create(5, 0, true))),
+      List.of(ValueTypeDescription.create(PrimitiveValueType.DATE, DateQualifiers.create(DateFractions.DATE)),
+        ValueTypeDescription.create(PrimitiveValueType.DATE, DateQualifiers.create(DateFractions.TIME))),
+      List.of(ValueTypeDescription.create(V8ValueType.BINARY_DATA, BinaryDataQualifiers.create(10)),
+        ValueTypeDescription.create(V8ValueType.BINARY_DATA, BinaryDataQualifiers.create(0))));
+    for (var pair : conflicts) {
+      var a = pair.get(0);
+      var b = pair.get(1);
+      assertThat(a.intersect(b).isSubsetOf(a) && a.intersect(b).isSubsetOf(b)).as("%s / %s", a, b).isTrue();
+      assertThat(b.intersect(a)).isSameAs(a.intersect(b));
+    }
+    assertThat(ValueTypeDescription.createString(10).intersect(ValueTypeDescription.createString(20)))
+      .isSameAs(ValueTypeDescription.createString(10));
+    assertThat(ValueTypeDescription.createString(10)
+      .intersect(ValueTypeDescription.createString(20, AllowedLength.FIXED)))
+      .isSameAs(ValueTypeDescription.EMPTY);
+    var dateTime = ValueTypeDescription.create(PrimitiveValueType.DATE, DateQualifiers.create(DateFractions.DATE_TIME));
+    var date = ValueTypeDescription.create(PrimitiveValueType.DATE, DateQualifiers.create(DateFractions.DATE));
+    assertThat(dateTime.intersect(date)).isSameAs(date);
+  }
+
+  @Test
+  void testMinus() {
+    var ref = ValueTypeDescription.createRef(MDOType.CATALOG, "testMinus").getTypes().get(0);
+    var all = ValueTypeDescription.create(
+      List.of(PrimitiveValueType.STRING, PrimitiveValueType.NUMBER, ref), List.of(StringQualifiers.create(10)));
+
+    var rest = all.minus(ValueTypeDescription.create(List.of(PrimitiveValueType.NUMBER, ref)));
+    assertThat(rest).isSameAs(ValueTypeDescription.createString(10));
+    assertThat(all.minus(all)).isSameAs(ValueTypeDescription.EMPTY);
+    assertThat(all.minus(ValueTypeDescription.EMPTY)).isSameAs(all);
+
+    // строка другой длины исключает лишь часть значений
+    var partial = all.minus(ValueTypeDescription.createString(20));
+    assertThat(partial.contains(PrimitiveValueType.STRING)).isTrue();
+    assertThat(partial.getQualifiers()).containsExactly(StringQualifiers.create(10));
+    assertThat(all.minus(ValueTypeDescription.create(PrimitiveValueType.STRING)).contains(PrimitiveValueType.STRING))
+      .isFalse();
+  }
+
+  @Test
+  void testSubsetAndOverlaps() {
+    var ref = ValueTypeDescription.createRef(MDOType.CATALOG, "testSubset");
+    var string = ValueTypeDescription.createString(10);
+    var union = string.union(ref).union(ValueTypeDescription.create(PrimitiveValueType.NUMBER));
+
+    assertThat(string.isSubsetOf(union)).isTrue();
+    assertThat(ref.isSubsetOf(union)).isTrue();
+    assertThat(ValueTypeDescription.EMPTY.isSubsetOf(string)).isTrue();
+    assertThat(union.isSubsetOf(string)).isFalse();
+    assertThat(string.isSubsetOf(ValueTypeDescription.createString(20))).isTrue();
+    assertThat(ValueTypeDescription.createString(20).isSubsetOf(string)).isFalse();
+    assertThat(string.isSubsetOf(ValueTypeDescription.create(PrimitiveValueType.STRING))).isTrue();
+    assertThat(ValueTypeDescription.create(PrimitiveValueType.STRING).isSubsetOf(string)).isFalse();
+
+    assertThat(union.overlaps(ref)).isTrue();
+    assertThat(union.overlaps(ValueTypeDescription.createString(20))).isTrue();
+    assertThat(string.overlaps(ValueTypeDescription.createNumber(5))).isFalse();
+    assertThat(string.overlaps(ValueTypeDescription.EMPTY)).isFalse();
+  }
+
+  @Test
+  void testCanonicalOrder() {
+    var string = StringQualifiers.create(30);
+    var number = NumberQualifiers.create(12, 2);
+    var date = DateQualifiers.create();
+    var vtd = ValueTypeDescription.create(
+      List.of(PrimitiveValueType.NUMBER, PrimitiveValueType.STRING, PrimitiveValueType.DATE, PrimitiveValueType.STRING),
+      List.of(number, string, Qualifier.EMPTY, date, string));
+
+    assertThat(vtd.getTypes())
+      .containsExactly(PrimitiveValueType.DATE, PrimitiveValueType.NUMBER, PrimitiveValueType.STRING);
+    assertThat(vtd.getQualifiers()).containsExactly(date, string, number);
+    assertThat(ValueTypeDescription.create(
+      List.of(PrimitiveValueType.DATE, PrimitiveValueType.STRING, PrimitiveValueType.NUMBER),
+      List.of(date, number, string))).isSameAs(vtd);
+
+    var explicit = ValueTypeDescription.create(List.of(PrimitiveValueType.STRING), List.of(string), true);
+    assertThat(explicit.isComposite()).isTrue();
+    assertThat(explicit).isNotEqualTo(ValueTypeDescription.createString(30));
+    assertThat(ValueTypeDescription.create(List.of(PrimitiveValueType.STRING), List.of(string), true))
+      .isSameAs(explicit);
+  }
+
+  @Test
+  void testQualifierOrderWithoutDescription() {
+    var first = new KeyedQualifier(2);
+    var second = new KeyedQualifier(1);
+    var vtd = ValueTypeDescription.create(List.of(PrimitiveValueType.STRING), List.of(first, second, first));
+    assertThat(vtd.getQualifiers()).containsExactly(second, first);
+    assertThat(vtd.contains(PrimitiveValueType.STRING)).isTrue();
+  }
+
+  /**
+   * Квалификатор строки, представление которого недоступно
+   */
+  private record KeyedQualifier(long sortKey) implements Qualifier {
+    @Override
+    public MultiName description() {
+      throw new IllegalStateException("description must not be built");
+    }
+
+    @Override
+    public QualifierKind kind() {
+      return QualifierKind.STRING;
+    }
+  }
+}
@@ -23,9 +23,14 @@ package com.github._1c_syntax.bsl.types.qualifiers;
 
 import com.github._1c_syntax.bsl.types.AllowedLength;
 import com.github._1c_syntax.bsl.types.MultiName;
+import com.github._1c_syntax.bsl.types.QualifierKind;
 import org.junit.jupiter.api.Test;
 
+import java.util.Comparator;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class BinaryDataQualifiersTest {
   @Test
@@ -60,4 +65,29 @@ class BinaryDataQualifiersTest {
     assertThat(BinaryDataQualifiers.create(100, AllowedLength.FIXED))
       .isSameAs(BinaryDataQualifiers.create(100, AllowedLength.FIXED));
   }
-}
\ No newline at end of file
+
+  @Test
+  void sortKey() {
+    var qualifiers = List.of(BinaryDataQualifiers.create(100, AllowedLength.FIXED), BinaryDataQualifiers.create(150),
+      BinaryDataQualifiers.create(0), BinaryDataQualifiers.create(10, AllowedLength.FIXED));
+    assertThat(qualifiers).allMatch(qualifier -> qualifier.kind() == QualifierKind.BINARY_DATA);
+    assertThat(qualifiers.stream().sorted(Comparator.comparingLong(BinaryDataQualifiers::sortKey)).toList())
+      .isEqualTo(qualifiers.stream().sorted().toList());
+  }
+
+  @Test
+  void negativeLength() {
+    assertThatThrownBy(() -> BinaryDataQualifiers.create(-1L)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> BinaryDataQualifiers.create(-1, AllowedLength.FIXED))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void contains() {
+    assertThat(BinaryDataQualifiers.create(20).contains(BinaryDataQualifiers.create(10))).isTrue();
+    assertThat(BinaryDataQualifiers.create(10).contains(BinaryDataQualifiers.create(20))).isFalse();
+    assertThat(BinaryDataQualifiers.create(0).contains(BinaryDataQualifiers.create(20))).isTrue();
+    assertThat(BinaryDataQualifiers.create(20, AllowedLength.FIXED).contains(BinaryDataQualifiers.create(10)))
+      .isFalse();
+  }
+}
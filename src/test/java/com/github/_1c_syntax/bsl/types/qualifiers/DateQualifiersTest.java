@@ -23,8 +23,12 @@ package com.github._1c_syntax.bsl.types.qualifiers;
 
 import com.github._1c_syntax.bsl.types.DateFractions;
 import com.github._1c_syntax.bsl.types.MultiName;
+import com.github._1c_syntax.bsl.types.QualifierKind;
 import org.junit.jupiter.api.Test;
 
+import java.util.Comparator;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class DateQualifiersTest {
@@ -51,4 +55,24 @@ class DateQualifiersTest {
     assertThat(DateQualifiers.create(DateFractions.TIME))
       .isSameAs(DateQualifiers.create(DateFractions.TIME));
   }
-}
\ No newline at end of file
+
+  @Test
+  void sortKey() {
+    var qualifiers = List.of(DateQualifiers.create(DateFractions.DATE_TIME), DateQualifiers.create(DateFractions.TIME),
+      DateQualifiers.create(DateFractions.DATE));
+    assertThat(qualifiers).allMatch(qualifier -> qualifier.kind() == QualifierKind.DATE);
+    assertThat(qualifiers.stream().sorted(Comparator.comparingLong(DateQualifiers::sortKey)).toList())
+      .isEqualTo(qualifiers.stream().sorted().toList());
+  }
+
+  @Test
+  void contains() {
+    var dateTime = DateQualifiers.create(DateFractions.DATE_TIME);
+    var date = DateQualifiers.create(DateFractions.DATE);
+    assertThat(dateTime.contains(date)).isTrue();
+    assertThat(dateTime.contains(DateQualifiers.create(DateFractions.TIME))).isTrue();
+    assertThat(date.contains(dateTime)).isFalse();
+    assertThat(date.contains(DateQualifiers.create(DateFractions.TIME))).isFalse();
+    assertThat(date.contains(date)).isTrue();
+  }
+}
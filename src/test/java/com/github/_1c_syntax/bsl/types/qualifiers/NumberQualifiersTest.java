@@ -21,9 +21,16 @@
  */
 package com.github._1c_syntax.bsl.types.qualifiers;
 
+import com.github._1c_syntax.bsl.types.QualifierKind;
+import com.github._1c_syntax.bsl.types.ScriptVariant;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringWriter;
+import java.util.Comparator;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class NumberQualifiersTest {
 
@@ -74,4 +81,55 @@ class NumberQualifiersTest {
     assertThat(quaf.compareTo(quaf4)).isEqualTo(1);
     assertThat(quaf2.compareTo(quaf5)).isEqualTo(-1);
   }
-}
\ No newline at end of file
+
+  @Test
+  void appendTo() {
+    var quaf = NumberQualifiers.create(15, 2, true);
+    var builder = new StringBuilder("type: ");
+    assertThat(quaf.appendTo(builder, ScriptVariant.ENGLISH)).isSameAs(builder);
+    assertThat(builder).hasToString("type: NumberQualifiers (15.2 nonneg)");
+
+    var writer = new StringWriter();
+    quaf.appendTo(writer, ScriptVariant.RUSSIAN);
+    assertThat(writer).hasToString(quaf.description().getRu());
+  }
+
+  @Test
+  void sortKey() {
+    var qualifiers = List.of(NumberQualifiers.create(10, 5, true), NumberQualifiers.create(9),
+      NumberQualifiers.create(10, 5), NumberQualifiers.create(38, 0), NumberQualifiers.create(10));
+    assertThat(qualifiers).allMatch(qualifier -> qualifier.kind() == QualifierKind.NUMBER);
+    assertThat(qualifiers.stream().sorted(Comparator.comparingLong(NumberQualifiers::sortKey)).toList())
+      .isEqualTo(qualifiers.stream().sorted().toList());
+  }
+
+  @Test
+  void flyweights() {
+    for (var precision : new int[]{0, 10, 38, 39, 100}) {
+      for (var scale : new int[]{0, 2, 38, 40}) {
+        var value = NumberQualifiers.create(precision, scale, true);
+        assertThat(NumberQualifiers.create(precision, scale, true)).isSameAs(value);
+        assertThat(NumberQualifiers.create(precision, scale, false)).isNotEqualTo(value);
+        assertThat(value.getPrecision()).isEqualTo(precision);
+        assertThat(value.getScale()).isEqualTo(scale);
+      }
+    }
+  }
+
+  @Test
+  void negativeDigits() {
+    assertThatThrownBy(() -> NumberQualifiers.create(-1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> NumberQualifiers.create(10, -1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void contains() {
+    assertThat(NumberQualifiers.create(10, 2).contains(NumberQualifiers.create(8, 2))).isTrue();
+    assertThat(NumberQualifiers.create(10, 2).contains(NumberQualifiers.create(10, 3))).isFalse();
+    assertThat(NumberQualifiers.create(10, 2).contains(NumberQualifiers.create(9, 0))).isFalse();
+    assertThat(NumberQualifiers.create(10, 2).contains(NumberQualifiers.create(5, 0, true))).isTrue();
+    assertThat(NumberQualifiers.create(10, 2, true).contains(NumberQualifiers.create(5, 0))).isFalse();
+    assertThat(NumberQualifiers.create(0).contains(NumberQualifiers.create(5, 0))).isTrue();
+    assertThat(NumberQualifiers.create(15, 2).contains(NumberQualifiers.create(0))).isFalse();
+  }
+}
@@ -22,9 +22,16 @@
 package com.github._1c_syntax.bsl.types.qualifiers;
 
 import com.github._1c_syntax.bsl.types.AllowedLength;
+import com.github._1c_syntax.bsl.types.QualifierKind;
+import com.github._1c_syntax.bsl.types.ScriptVariant;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringWriter;
+import java.util.Comparator;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class StringQualifiersTest {
   @Test
@@ -46,4 +53,57 @@ class StringQualifiersTest {
     assertThat(StringQualifiers.create(100, AllowedLength.FIXED))
       .isSameAs(StringQualifiers.create(100, AllowedLength.FIXED));
   }
-}
\ No newline at end of file
+
+  @Test
+  void appendTo() {
+    var quaf = StringQualifiers.create(Long.MAX_VALUE, AllowedLength.FIXED);
+    var writer = new StringWriter();
+    quaf.appendTo(writer, ScriptVariant.ENGLISH);
+    assertThat(writer).hasToString("StringQualifiers (9223372036854775807, Fixed)");
+    assertThat(quaf.appendTo(new StringBuilder(), ScriptVariant.ENGLISH)).hasToString(writer.toString());
+
+    writer = new StringWriter();
+    StringQualifiers.create(0).appendTo(writer, ScriptVariant.RUSSIAN);
+    assertThat(writer).hasToString(StringQualifiers.create(0).description().getRu());
+  }
+
+  @Test
+  void sortKey() {
+    var qualifiers = List.of(StringQualifiers.create(100, AllowedLength.FIXED), StringQualifiers.create(150),
+      StringQualifiers.create(0), StringQualifiers.create(10, AllowedLength.FIXED));
+    assertThat(qualifiers).allMatch(qualifier -> qualifier.kind() == QualifierKind.STRING);
+    assertThat(qualifiers.stream().sorted(Comparator.comparingLong(StringQualifiers::sortKey)).toList())
+      .isEqualTo(qualifiers.stream().sorted().toList());
+  }
+
+  @Test
+  void flyweights() {
+    for (var length : new long[]{0, 150, 1024, 1025, 100_000}) {
+      var variable = StringQualifiers.create(length);
+      var fixed = StringQualifiers.create(length, AllowedLength.FIXED);
+      assertThat(StringQualifiers.create((int) length, AllowedLength.VARIABLE)).isSameAs(variable);
+      assertThat(StringQualifiers.create((int) length, AllowedLength.FIXED)).isSameAs(fixed);
+      assertThat(fixed).isNotEqualTo(variable);
+      assertThat(fixed.getLength()).isEqualTo(length);
+    }
+  }
+
+  @Test
+  void negativeLength() {
+    assertThatThrownBy(() -> StringQualifiers.create(-1L)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> StringQualifiers.create(-1, AllowedLength.FIXED))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void contains() {
+    assertThat(StringQualifiers.create(20).contains(StringQualifiers.create(10))).isTrue();
+    assertThat(StringQualifiers.create(10).contains(StringQualifiers.create(20))).isFalse();
+    assertThat(StringQualifiers.create(0).contains(StringQualifiers.create(20))).isTrue();
+    assertThat(StringQualifiers.create(20).contains(StringQualifiers.create(0))).isFalse();
+    assertThat(StringQualifiers.create(20).contains(StringQualifiers.create(10, AllowedLength.FIXED))).isTrue();
+    assertThat(StringQualifiers.create(20, AllowedLength.FIXED).contains(StringQualifiers.create(10))).isFalse();
+    assertThat(StringQualifiers.create(20, AllowedLength.FIXED)
+      .contains(StringQualifiers.create(20, AllowedLength.FIXED))).isTrue();
+  }
+}